@@ -0,0 +1,323 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.zalando.problem.DefaultProblem;
+import org.zalando.problem.Problem;
+import org.zalando.problem.StatusType;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Reuses the serialized form of structurally identical problems, i.e. problems that only differ in their
+ * {@code instance}, if any, that are written within a short window. This keeps the cost of error responses flat when
+ * lots of identical problems are thrown at once.
+ * <p>
+ * Only {@link DefaultProblem default problems} without cause whose parameters are strings, numbers, booleans, URIs or
+ * {@code null} are coalesced, and only if stack traces aren't serialized. All other problems are serialized as usual.
+ * Reused output is identical to {@link ObjectMapper#writeValueAsBytes(Object)} of the given mapper.
+ */
+@API(status = EXPERIMENTAL)
+public final class CoalescingProblemWriter {
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofSeconds(1);
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private static final Set<Class<?>> VALUE_TYPES = Set.of(
+            String.class, Boolean.class, Integer.class, Long.class, Short.class, Byte.class, Double.class,
+            Float.class, BigInteger.class, BigDecimal.class, URI.class);
+
+    private final ObjectWriter writer;
+    private final boolean enabled;
+    private final long window;
+    private final AtomicReferenceArray<Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param mapper mapper with a registered {@link ProblemModule}
+     * @throws IllegalArgumentException if the mapper has no {@link ProblemModule}
+     */
+    public CoalescingProblemWriter(final ObjectMapper mapper) throws IllegalArgumentException {
+        this(mapper.writer(), !ProblemModule.find(mapper).hasStackTraces(), DEFAULT_WINDOW.toNanos(),
+                DEFAULT_CAPACITY);
+    }
+
+    private CoalescingProblemWriter(final ObjectWriter writer, final boolean enabled, final long window,
+            final int capacity) {
+        this.writer = writer;
+        this.enabled = enabled;
+        this.window = window;
+        this.entries = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * @param window how long serialized output is reused
+     * @return a copy of this writer, without any reusable output, that uses the given window
+     * @throws IllegalArgumentException if the window is not positive
+     */
+    public CoalescingProblemWriter withWindow(final Duration window) throws IllegalArgumentException {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        return new CoalescingProblemWriter(writer, enabled, window.toNanos(), entries.length());
+    }
+
+    /**
+     * @param capacity maximum number of distinct problems whose output is kept, rounded up to a power of two
+     * @return a copy of this writer, without any reusable output, that uses the given capacity
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    public CoalescingProblemWriter withCapacity(final int capacity) throws IllegalArgumentException {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        return new CoalescingProblemWriter(writer, enabled, window,
+                Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1);
+    }
+
+    public byte[] writeValueAsBytes(final Problem problem) throws JacksonException {
+        final int fingerprint = fingerprint(problem);
+
+        if (fingerprint == 0) {
+            misses.increment();
+            return writer.writeValueAsBytes(problem);
+        }
+
+        @Nullable final URI instance = problem.getInstance();
+        final Entry entry = lookup(problem, fingerprint);
+
+        if (entry.tail == null) {
+            return entry.head.clone();
+        }
+
+        final byte[] quoted = writer.writeValueAsBytes(instance.toString());
+        final byte[] output = new byte[entry.head.length + quoted.length + entry.tail.length];
+        System.arraycopy(entry.head, 0, output, 0, entry.head.length);
+        System.arraycopy(quoted, 0, output, entry.head.length, quoted.length);
+        System.arraycopy(entry.tail, 0, output, entry.head.length + quoted.length, entry.tail.length);
+        return output;
+    }
+
+    /**
+     * @param output  target stream, left open
+     * @param problem problem to write
+     * @throws JacksonException if serialization or writing fails
+     */
+    public void writeValue(final OutputStream output, final Problem problem) throws JacksonException {
+        final int fingerprint = fingerprint(problem);
+
+        try {
+            if (fingerprint == 0) {
+                misses.increment();
+                output.write(writer.writeValueAsBytes(problem));
+                return;
+            }
+
+            final Entry entry = lookup(problem, fingerprint);
+            output.write(entry.head);
+            if (entry.tail != null) {
+                output.write(writer.writeValueAsBytes(problem.getInstance().toString()));
+                output.write(entry.tail);
+            }
+        } catch (final IOException e) {
+            throw JacksonIOException.construct(e);
+        }
+    }
+
+    /**
+     * @return number of problems whose serialized form was reused
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of problems that were serialized
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Computes a hash of all fields but the value of {@code instance}.
+     *
+     * @param problem problem to write
+     * @return the fingerprint, or {@code 0} if the problem can't be coalesced
+     */
+    private int fingerprint(final Problem problem) {
+        if (!enabled || (problem.getClass() != DefaultProblem.class &&
+                problem.getClass() != DeserializedProblem.class) || ((ThrowableProblem) problem).getCause() != null) {
+            return 0;
+        }
+
+        int hash = Objects.hashCode(problem.getType());
+        hash = 31 * hash + statusCode(problem.getStatus());
+        hash = 31 * hash + Objects.hashCode(problem.getTitle());
+        hash = 31 * hash + Objects.hashCode(problem.getDetail());
+        hash = 31 * hash + (problem.getInstance() == null ? 0 : 1);
+
+        for (final Map.Entry<String, Object> parameter : problem.getParameters().entrySet()) {
+            @Nullable final Object value = parameter.getValue();
+
+            if (value != null && !VALUE_TYPES.contains(value.getClass())) {
+                return 0;
+            }
+
+            hash = 31 * hash + parameter.hashCode();
+        }
+
+        return hash == 0 ? 1 : hash;
+    }
+
+    private static int statusCode(@Nullable final StatusType status) {
+        return status == null ? -1 : status.getStatusCode();
+    }
+
+    private Entry lookup(final Problem problem, final int fingerprint) {
+        final int index = (fingerprint ^ (fingerprint >>> 16)) & (entries.length() - 1);
+        final long now = System.nanoTime();
+        @Nullable final Entry entry = entries.get(index);
+
+        if (entry != null && now - entry.created < window && entry.matches(problem, fingerprint)) {
+            hits.increment();
+            return entry;
+        }
+
+        misses.increment();
+        final Entry created = serialize(problem, fingerprint, now);
+        entries.set(index, created);
+        return created;
+    }
+
+    private Entry serialize(final Problem problem, final int fingerprint, final long now) {
+        final byte[] output = writer.writeValueAsBytes(problem);
+        @Nullable final URI instance = problem.getInstance();
+
+        if (instance == null) {
+            return new Entry(problem, fingerprint, now, null, output, null);
+        }
+
+        final byte[] quoted = writer.writeValueAsBytes(instance.toString());
+        final int index = indexOf(output, quoted, 0);
+
+        if (index < 0 || indexOf(output, quoted, index + 1) >= 0) {
+            // can't tell which occurrence is the instance, keep the instance as part of the output instead
+            return new Entry(problem, fingerprint, now, instance, output, null);
+        }
+
+        return new Entry(problem, fingerprint, now, null,
+                Arrays.copyOfRange(output, 0, index),
+                Arrays.copyOfRange(output, index + quoted.length, output.length));
+    }
+
+    private static int indexOf(final byte[] array, final byte[] target, final int from) {
+        outer:
+        for (int i = from; i <= array.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (array[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static final class Entry {
+
+        private final int fingerprint;
+        private final long created;
+        @Nullable private final URI type;
+        private final int status;
+        @Nullable private final String title;
+        @Nullable private final String detail;
+        private final boolean instance;
+        @Nullable private final URI exactInstance;
+        private final Map<String, Object> parameters;
+        private final byte[] head;
+        private final byte @Nullable [] tail;
+
+        /**
+         * @param exactInstance instance that has to match as well, if it's part of the head
+         * @param head          output up to the instance value, or the complete output without tail
+         * @param tail          output after the instance value
+         */
+        Entry(final Problem problem, final int fingerprint, final long created, @Nullable final URI exactInstance,
+                final byte[] head, final byte @Nullable [] tail) {
+            this.fingerprint = fingerprint;
+            this.created = created;
+            this.type = problem.getType();
+            this.status = statusCode(problem.getStatus());
+            this.title = problem.getTitle();
+            this.detail = problem.getDetail();
+            this.instance = problem.getInstance() != null;
+            this.exactInstance = exactInstance;
+            this.parameters = Collections.unmodifiableMap(new LinkedHashMap<>(problem.getParameters()));
+            this.head = head;
+            this.tail = tail;
+        }
+
+        boolean matches(final Problem problem, final int fingerprint) {
+            @Nullable final URI instance = problem.getInstance();
+
+            return this.fingerprint == fingerprint &&
+                    this.instance == (instance != null) &&
+                    (exactInstance == null || exactInstance.equals(instance)) &&
+                    status == statusCode(problem.getStatus()) &&
+                    Objects.equals(type, problem.getType()) &&
+                    Objects.equals(title, problem.getTitle()) &&
+                    Objects.equals(detail, problem.getDetail()) &&
+                    sameParameters(problem.getParameters());
+        }
+
+        private boolean sameParameters(final Map<String, Object> candidates) {
+            if (parameters.size() != candidates.size()) {
+                return false;
+            }
+
+            final Iterator<Map.Entry<String, Object>> expected = parameters.entrySet().iterator();
+            final Iterator<Map.Entry<String, Object>> actual = candidates.entrySet().iterator();
+
+            while (expected.hasNext()) {
+                final Map.Entry<String, Object> left = expected.next();
+                final Map.Entry<String, Object> right = actual.next();
+                @Nullable final Object value = right.getValue();
+
+                if (!left.getKey().equals(right.getKey()) || !Objects.equals(left.getValue(), value) ||
+                        (value != null && left.getValue().getClass() != value.getClass())) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+}
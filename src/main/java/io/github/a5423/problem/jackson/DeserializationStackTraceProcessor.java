@@ -0,0 +1,153 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.apiguardian.api.API;
+import org.zalando.problem.spi.StackTraceProcessor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Removes the leading frames of reflection, Jackson and this module from the stack traces that problems capture when
+ * they are created during deserialization, so that they start at the code that triggered it. Stack traces without
+ * any other frame are kept as they are.
+ * <p>
+ * Registered as {@link StackTraceProcessor} service. Different prefixes can be used by registering a processor that
+ * delegates to {@link #DeserializationStackTraceProcessor(Collection)} instead.
+ */
+@API(status = EXPERIMENTAL)
+public final class DeserializationStackTraceProcessor implements StackTraceProcessor {
+
+    public static final List<String> DEFAULT_PREFIXES = List.of(
+            "sun.reflect",
+            "java.lang.reflect",
+            "java.lang.invoke",
+            "jdk.internal.reflect",
+            "tools.jackson",
+            "org.zalando.problem.ProblemBuilder",
+            "io.github.a5423.problem.jackson.ProblemEventDeserializer",
+            "io.github.a5423.problem.jackson.ThrowableProblemDeserializer",
+            "io.github.a5423.problem.jackson.ProblemNodeConverter");
+
+    private final Node prefixes;
+
+    public DeserializationStackTraceProcessor() {
+        this(DEFAULT_PREFIXES);
+    }
+
+    /**
+     * @param prefixes prefixes of class names whose leading frames are removed
+     */
+    public DeserializationStackTraceProcessor(final Collection<String> prefixes) {
+        final NodeBuilder root = new NodeBuilder();
+        prefixes.forEach(root::add);
+        this.prefixes = root.build();
+    }
+
+    @Override
+    public Collection<StackTraceElement> process(final Collection<StackTraceElement> elements) {
+        int index = 0;
+
+        for (final StackTraceElement element : elements) {
+            if (!prefixes.matches(element.getClassName())) {
+                break;
+            }
+            index++;
+        }
+
+        if (index == 0 || index == elements.size()) {
+            return elements;
+        } else if (elements instanceof List) {
+            return ((List<StackTraceElement>) elements).subList(index, elements.size());
+        }
+
+        final List<StackTraceElement> remaining = new ArrayList<>(elements.size() - index);
+        final Iterator<StackTraceElement> iterator = elements.iterator();
+
+        for (int skipped = 0; skipped < index; skipped++) {
+            iterator.next();
+        }
+        iterator.forEachRemaining(remaining::add);
+
+        return remaining;
+    }
+
+    /**
+     * Character trie of all prefixes, with the children of each node sorted by character.
+     */
+    private static final class Node {
+
+        private final boolean terminal;
+        private final char[] characters;
+        private final Node[] children;
+
+        private Node(final boolean terminal, final char[] characters, final Node[] children) {
+            this.terminal = terminal;
+            this.characters = characters;
+            this.children = children;
+        }
+
+        boolean matches(final String name) {
+            Node node = this;
+
+            for (int i = 0; !node.terminal; i++) {
+                if (i == name.length()) {
+                    return false;
+                }
+
+                final int child = Arrays.binarySearch(node.characters, name.charAt(i));
+
+                if (child < 0) {
+                    return false;
+                }
+
+                node = node.children[child];
+            }
+
+            return true;
+        }
+
+    }
+
+    private static final class NodeBuilder {
+
+        private final Map<Character, NodeBuilder> children = new TreeMap<>();
+        private boolean terminal;
+
+        void add(final String prefix) {
+            NodeBuilder node = this;
+
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), character -> new NodeBuilder());
+            }
+
+            node.terminal = true;
+        }
+
+        Node build() {
+            final char[] characters = new char[children.size()];
+            final Node[] nodes = new Node[children.size()];
+            int i = 0;
+
+            for (final Map.Entry<Character, NodeBuilder> child : children.entrySet()) {
+                characters[i] = child.getKey();
+                nodes[i] = child.getValue().build();
+                i++;
+            }
+
+            return new Node(terminal, characters, nodes);
+        }
+
+    }
+
+}
@@ -0,0 +1,43 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.zalando.problem.AbstractThrowableProblem;
+import org.zalando.problem.StatusType;
+import org.zalando.problem.ThrowableProblem;
+
+import java.net.URI;
+import java.util.Map;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Fallback for problems without registered subtype once {@link ProblemModule#withStackTraceDeserialization()} is
+ * enabled. Its stack trace is the one from the {@code stacktrace} member, if any, and never captured on creation.
+ */
+@API(status = EXPERIMENTAL)
+// same order as the creator of DefaultProblem implies
+@JsonPropertyOrder({"type", "title", "status", "detail", "instance", "cause", "stacktrace"})
+public final class DeserializedProblem extends AbstractThrowableProblem {
+
+    DeserializedProblem(@Nullable final URI type, @Nullable final String title, @Nullable final StatusType status,
+            @Nullable final String detail, @Nullable final URI instance, @Nullable final ThrowableProblem cause,
+            final Map<String, Object> parameters, final StackTraceElement @Nullable [] stackTrace) {
+        super(type, title, status, detail, instance, cause, parameters);
+
+        if (stackTrace != null) {
+            setStackTrace(stackTrace);
+        }
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+}
@@ -0,0 +1,21 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
+
+// class annotations of mix-ins aren't inherited, so all of them have to be repeated from ProblemMixIn
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME,
+        include = JsonTypeInfo.As.EXISTING_PROPERTY,
+        property = "type",
+        defaultImpl = DeserializedProblem.class,
+        visible = true)
+@JsonInclude(NON_EMPTY)
+interface DeserializedProblemMixIn extends ProblemMixIn {
+
+}
@@ -0,0 +1,118 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import java.io.Reader;
+
+/**
+ * Renders a {@link LazyDetail} template on demand, so that it can be streamed into a generator as a single string
+ * value. Only arguments that aren't strings already are converted to one, and only when they are reached.
+ */
+final class DetailTemplateReader extends Reader {
+
+    private static final String PLACEHOLDER = "{}";
+
+    private final String template;
+    private final Object[] arguments;
+
+    // position in the template
+    private int position;
+    private int argument;
+
+    // argument currently being emitted, if any
+    private String current;
+    private int offset;
+
+    DetailTemplateReader(final String template, final Object[] arguments) {
+        this.template = template;
+        this.arguments = arguments;
+    }
+
+    @Override
+    public int read(final char[] buffer, final int start, final int length) {
+        if (length == 0) {
+            return 0;
+        }
+
+        int written = 0;
+
+        while (written < length) {
+            if (current != null) {
+                final int count = Math.min(length - written, current.length() - offset);
+                current.getChars(offset, offset + count, buffer, start + written);
+                written += count;
+                offset += count;
+
+                if (offset == current.length()) {
+                    current = null;
+                }
+                continue;
+            }
+
+            if (position == template.length()) {
+                break;
+            }
+
+            final int next = argument < arguments.length ? template.indexOf(PLACEHOLDER, position) : -1;
+            final int end = next == -1 ? template.length() : next;
+
+            if (end > position) {
+                final int count = Math.min(length - written, end - position);
+                template.getChars(position, position + count, buffer, start + written);
+                written += count;
+                position += count;
+            } else {
+                current = String.valueOf(arguments[argument++]);
+                offset = 0;
+                position += PLACEHOLDER.length();
+            }
+        }
+
+        return written == 0 ? -1 : written;
+    }
+
+    /**
+     * Renders the template up to the first character, if any, without consuming anything.
+     *
+     * @return whether the rendered template is empty
+     */
+    boolean isEmpty() {
+        while (current == null || offset == current.length()) {
+            if (position == template.length()) {
+                return true;
+            }
+
+            final int next = argument < arguments.length ? template.indexOf(PLACEHOLDER, position) : -1;
+
+            if (next != position) {
+                return false;
+            }
+
+            current = String.valueOf(arguments[argument++]);
+            offset = 0;
+            position += PLACEHOLDER.length();
+        }
+
+        return false;
+    }
+
+    String readFully() {
+        final StringBuilder builder = new StringBuilder(template.length() + 16 * arguments.length);
+        final char[] buffer = new char[256];
+
+        int read;
+        while ((read = read(buffer, 0, buffer.length)) != -1) {
+            builder.append(buffer, 0, read);
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+}
@@ -0,0 +1,37 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Implemented by problems that want their {@code detail} to be formatted only if it's actually needed. When such a
+ * problem is serialized by the {@link ProblemModule} the template is rendered straight into the output, without ever
+ * calling {@link org.zalando.problem.Problem#getDetail()}.
+ * <p>
+ * Templates use {@code {}} as placeholder for the next argument, e.g.
+ * {@code "Your current balance is {}, but that costs {}."}. Placeholders without argument are kept as they are,
+ * surplus arguments are ignored. Implementations would usually implement {@code getDetail()} in terms of
+ * {@link #format(String, Object...)}.
+ */
+@API(status = EXPERIMENTAL)
+public interface LazyDetail {
+
+    /**
+     * @return the detail template, or {@code null} to fall back to {@link org.zalando.problem.Problem#getDetail()}
+     */
+    @Nullable
+    String getDetailTemplate();
+
+    Object[] getDetailArguments();
+
+    static String format(final String template, final Object... arguments) {
+        return new DetailTemplateReader(template, arguments).readFully();
+    }
+
+}
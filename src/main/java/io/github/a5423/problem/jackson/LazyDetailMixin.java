@@ -0,0 +1,17 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+interface LazyDetailMixin {
+
+    @JsonIgnore
+    String getDetailTemplate();
+
+    @JsonIgnore
+    Object[] getDetailArguments();
+
+}
@@ -0,0 +1,51 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.json.JsonGeneratorBase;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+
+/**
+ * Writes the {@code detail} of {@link LazyDetail} problems by rendering their template straight into the generator.
+ * Generators other than the textual JSON ones, e.g. the one behind {@code valueToTree}, don't necessarily support
+ * strings from a {@link java.io.Reader} and get the formatted detail instead.
+ */
+final class LazyDetailPropertyWriter extends BeanPropertyWriter {
+
+    LazyDetailPropertyWriter(final BeanPropertyWriter base) {
+        super(base);
+    }
+
+    @Override
+    public void serializeAsProperty(final Object bean, final JsonGenerator json, final SerializationContext context)
+            throws Exception {
+        final LazyDetail detail = (LazyDetail) bean;
+        @Nullable final String template = detail.getDetailTemplate();
+
+        if (template == null) {
+            super.serializeAsProperty(bean, json, context);
+            return;
+        }
+
+        final DetailTemplateReader reader = new DetailTemplateReader(template, detail.getDetailArguments());
+
+        // just like any other empty detail
+        if (reader.isEmpty()) {
+            return;
+        }
+
+        json.writeName(_name);
+
+        if (json instanceof JsonGeneratorBase) {
+            json.writeString(reader, -1);
+        } else {
+            json.writeString(reader.readFully());
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+import java.util.function.Supplier;
+
+/**
+ * Serializes custom parameter values. {@link Supplier suppliers} are only invoked when the problem is actually
+ * written, everything else, including the supplied value, is handed to the regular serializer for its runtime type.
+ * Iterators, iterables and streams are written element by element by Jackson already, so a supplied stream is never
+ * collected.
+ */
+final class ParameterValueSerializer extends ValueSerializer<Object> {
+
+    @Override
+    public void serialize(final Object value, final JsonGenerator json, final SerializationContext context) {
+        @Nullable Object current = value;
+
+        while (current instanceof Supplier) {
+            current = ((Supplier<?>) current).get();
+        }
+
+        if (current == null) {
+            context.defaultSerializeNullValue(json);
+        } else {
+            context.writeValue(json, current);
+        }
+    }
+
+}
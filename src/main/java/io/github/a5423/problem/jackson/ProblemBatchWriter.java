@@ -0,0 +1,192 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.apiguardian.api.API;
+import org.zalando.problem.Problem;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Serializes large lists of problems by splitting them into chunks that are written concurrently into separate
+ * buffers and concatenated in their original order afterwards. The output is identical to sequential serialization
+ * of the same list with the given mapper, except for indentation.
+ * <p>
+ * {@link SerializationFeature#INDENT_OUTPUT} of the mapper is deliberately disabled, since every chunk is written by
+ * its own generator which doesn't know the nesting of the surrounding array. Arrays and lines are therefore always
+ * written compactly.
+ */
+@API(status = EXPERIMENTAL)
+public final class ProblemBatchWriter {
+
+    private static final int DEFAULT_CHUNK_SIZE = 512;
+
+    private static final byte ARRAY_START = '[';
+    private static final byte ARRAY_END = ']';
+    private static final byte COMMA = ',';
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectWriter writer;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates a batch writer that uses the common fork-join pool.
+     *
+     * @param mapper mapper with a registered {@link ProblemModule}
+     */
+    public ProblemBatchWriter(final ObjectMapper mapper) {
+        this(mapper.writer().without(SerializationFeature.INDENT_OUTPUT), ForkJoinPool.commonPool(),
+                DEFAULT_CHUNK_SIZE);
+    }
+
+    private ProblemBatchWriter(final ObjectWriter writer, final ForkJoinPool pool, final int chunkSize) {
+        this.writer = writer;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param pool pool that serializes chunks, lists no longer than the chunk size are serialized by the caller
+     * @return a copy of this writer using the given pool
+     */
+    public ProblemBatchWriter withPool(final ForkJoinPool pool) {
+        return new ProblemBatchWriter(writer, pool, chunkSize);
+    }
+
+    /**
+     * @param chunkSize maximum number of problems serialized by a single task
+     * @return a copy of this writer using the given chunk size
+     * @throws IllegalArgumentException if chunk size is not positive
+     */
+    public ProblemBatchWriter withChunkSize(final int chunkSize) throws IllegalArgumentException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        return new ProblemBatchWriter(writer, pool, chunkSize);
+    }
+
+    /**
+     * Writes the given problems as a single JSON array.
+     *
+     * @param output   target stream, left open
+     * @param problems problems to write
+     * @throws JacksonException if serialization or writing fails
+     */
+    public void writeArray(final OutputStream output, final List<? extends Problem> problems)
+            throws JacksonException {
+        final List<ForkJoinTask<byte[]>> chunks = fork(problems, ",");
+
+        try {
+            output.write(ARRAY_START);
+            for (int index = 0; index < chunks.size(); index++) {
+                if (index > 0) {
+                    output.write(COMMA);
+                }
+                output.write(join(chunks, index));
+            }
+            output.write(ARRAY_END);
+        } catch (final IOException e) {
+            cancel(chunks);
+            throw JacksonIOException.construct(e);
+        }
+    }
+
+    public byte[] writeArrayAsBytes(final List<? extends Problem> problems) throws JacksonException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writeArray(output, problems);
+        return output.toByteArray();
+    }
+
+    /**
+     * Writes the given problems as newline delimited JSON, i.e. one problem per line, each followed by a line feed.
+     *
+     * @param output   target stream, left open
+     * @param problems problems to write
+     * @throws JacksonException if serialization or writing fails
+     */
+    public void writeLines(final OutputStream output, final List<? extends Problem> problems)
+            throws JacksonException {
+        final List<ForkJoinTask<byte[]>> chunks = fork(problems, "\n");
+
+        try {
+            for (int index = 0; index < chunks.size(); index++) {
+                output.write(join(chunks, index));
+                output.write(NEWLINE);
+            }
+        } catch (final IOException e) {
+            cancel(chunks);
+            throw JacksonIOException.construct(e);
+        }
+    }
+
+    public byte[] writeLinesAsBytes(final List<? extends Problem> problems) throws JacksonException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writeLines(output, problems);
+        return output.toByteArray();
+    }
+
+    private List<ForkJoinTask<byte[]>> fork(final List<? extends Problem> problems, final String separator) {
+        final ObjectWriter chunkWriter = writer.withRootValueSeparator(separator);
+        final int size = problems.size();
+        final List<ForkJoinTask<byte[]>> chunks = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+
+        if (size <= chunkSize) {
+            // not worth a round trip through the pool
+            if (size > 0) {
+                chunks.add(ForkJoinTask.adapt(() -> serialize(chunkWriter, problems)));
+                chunks.get(0).invoke();
+            }
+            return chunks;
+        }
+
+        for (int from = 0; from < size; from += chunkSize) {
+            final List<? extends Problem> chunk = problems.subList(from, Math.min(from + chunkSize, size));
+            chunks.add(pool.submit(() -> serialize(chunkWriter, chunk)));
+        }
+
+        return chunks;
+    }
+
+    private static byte[] serialize(final ObjectWriter writer, final List<? extends Problem> chunk) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (final JsonGenerator json = writer.createGenerator(output)) {
+            for (final Problem problem : chunk) {
+                writer.writeValue(json, problem);
+            }
+        }
+
+        return output.toByteArray();
+    }
+
+    private static byte[] join(final List<ForkJoinTask<byte[]>> chunks, final int index) {
+        try {
+            return chunks.get(index).join();
+        } catch (final RuntimeException e) {
+            cancel(chunks);
+            throw e;
+        }
+    }
+
+    private static void cancel(final List<ForkJoinTask<byte[]>> chunks) {
+        chunks.forEach(chunk -> chunk.cancel(false));
+    }
+
+}
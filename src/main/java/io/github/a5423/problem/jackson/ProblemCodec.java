@@ -0,0 +1,132 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.zalando.problem.DefaultProblem;
+import org.zalando.problem.Exceptional;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.jsontype.NamedType;
+import tools.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Reads and writes problems using readers and writers that are resolved once, on creation, for {@link Problem},
+ * {@link ThrowableProblem}, {@link Exceptional}, the fallback problem classes and every registered subtype of
+ * {@link Problem}. Results are the same as with the mapper it was created from. Instances are immutable and can be
+ * shared freely.
+ */
+@API(status = EXPERIMENTAL)
+public final class ProblemCodec {
+
+    private final ObjectMapper mapper;
+    private final Map<Class<?>, ObjectReader> readers;
+    private final Map<Class<?>, ObjectWriter> writers;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    /**
+     * @param mapper mapper with a registered {@link ProblemModule}
+     * @throws IllegalArgumentException if the mapper has no {@link ProblemModule}
+     */
+    public ProblemCodec(final ObjectMapper mapper) throws IllegalArgumentException {
+        ProblemModule.find(mapper);
+
+        final Map<Class<?>, ObjectReader> readers = new HashMap<>();
+        final Map<Class<?>, ObjectWriter> writers = new HashMap<>();
+
+        for (final Class<?> type : new Class<?>[]{Problem.class, ThrowableProblem.class, Exceptional.class}) {
+            readers.put(type, mapper.readerFor(type));
+        }
+
+        for (final Class<?> type : new Class<?>[]{DefaultProblem.class, DeserializedProblem.class}) {
+            writers.put(type, mapper.writerFor(type));
+        }
+
+        for (final NamedType subtype : ProblemModule.registeredSubtypes(mapper.deserializationConfig())) {
+            readers.put(subtype.getType(), mapper.readerFor(subtype.getType()));
+            writers.put(subtype.getType(), mapper.writerFor(subtype.getType()));
+        }
+
+        this.mapper = mapper;
+        this.readers = Collections.unmodifiableMap(readers);
+        this.writers = Collections.unmodifiableMap(writers);
+        this.reader = readers.get(Problem.class);
+        this.writer = mapper.writer();
+    }
+
+    public Problem readValue(final byte[] json) throws JacksonException {
+        return reader.readValue(json);
+    }
+
+    public <T extends Problem> T readValue(final byte[] json, final Class<T> type) throws JacksonException {
+        return type.cast(readerFor(type).readValue(json));
+    }
+
+    public Problem readValue(final InputStream json) throws JacksonException {
+        return reader.readValue(json);
+    }
+
+    public <T extends Problem> T readValue(final InputStream json, final Class<T> type) throws JacksonException {
+        return type.cast(readerFor(type).readValue(json));
+    }
+
+    public Problem readValue(final ByteBuffer json) throws JacksonException {
+        return readValue(json, Problem.class);
+    }
+
+    /**
+     * Reads the remaining bytes of the given buffer, without changing its position.
+     *
+     * @param json serialized problem
+     * @param type requested type, e.g. {@link Problem}, {@link ThrowableProblem}, {@link Exceptional} or a registered
+     *             subtype
+     * @param <T>  requested type
+     * @return the deserialized problem
+     * @throws JacksonException if the problem can't be read as the requested type
+     */
+    public <T extends Problem> T readValue(final ByteBuffer json, final Class<T> type) throws JacksonException {
+        final ObjectReader reader = readerFor(type);
+
+        if (json.hasArray()) {
+            return type.cast(reader.readValue(json.array(), json.arrayOffset() + json.position(), json.remaining()));
+        }
+
+        return type.cast(reader.readValue(new ByteBufferBackedInputStream(json.duplicate())));
+    }
+
+    public byte[] writeValueAsBytes(final Problem problem) throws JacksonException {
+        return writerFor(problem).writeValueAsBytes(problem);
+    }
+
+    public void writeValue(final OutputStream output, final Problem problem) throws JacksonException {
+        writerFor(problem).writeValue(output, problem);
+    }
+
+    private ObjectReader readerFor(final Class<?> type) {
+        @Nullable final ObjectReader reader = readers.get(type);
+        return reader == null ? mapper.readerFor(type) : reader;
+    }
+
+    private ObjectWriter writerFor(final Problem problem) {
+        @Nullable final ObjectWriter writer = writers.get(problem.getClass());
+        return writer == null ? this.writer : writer;
+    }
+
+}
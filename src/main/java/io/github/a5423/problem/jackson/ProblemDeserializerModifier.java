@@ -0,0 +1,34 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.zalando.problem.Problem;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.ValueDeserializerModifier;
+
+final class ProblemDeserializerModifier extends ValueDeserializerModifier {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean stackTraces;
+
+    ProblemDeserializerModifier(final boolean stackTraces) {
+        this.stackTraces = stackTraces;
+    }
+
+    @Override
+    public ValueDeserializer<?> modifyDeserializer(final DeserializationConfig config,
+            final BeanDescription.Supplier description, final ValueDeserializer<?> deserializer) {
+
+        if (Problem.class.isAssignableFrom(description.getBeanClass())) {
+            return new ProblemEventDeserializer(deserializer, stackTraces);
+        }
+
+        return deserializer;
+    }
+
+}
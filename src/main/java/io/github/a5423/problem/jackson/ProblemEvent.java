@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.zalando.problem.Exceptional;
+import org.zalando.problem.Problem;
+import org.zalando.problem.StatusType;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.TokenStreamLocation;
+import tools.jackson.core.util.ByteArrayBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayWriter;
+import java.io.StringWriter;
+import java.net.URI;
+
+@Category({"Jackson", "Problem"})
+@Enabled(false)
+@StackTrace(false)
+abstract class ProblemEvent extends jdk.jfr.Event {
+
+    static final long UNKNOWN_SIZE = -1;
+
+    @Label("Status")
+    int status;
+
+    @Label("Type")
+    String type;
+
+    @Label("Cause Depth")
+    @Description("Number of nested causes")
+    int causeDepth;
+
+    @Label("Parameters")
+    @Description("Number of custom parameters")
+    int parameters;
+
+    @Label("Stack Traces")
+    @Description("Whether the module writes stack traces, for deserialization not whether one was read")
+    boolean stackTraces;
+
+    @Label("Size")
+    @Description("Serialized size in bytes or chars, -1 if unknown")
+    @DataAmount
+    long size;
+
+    void populate(final Problem problem, final boolean stackTraces, final long size) {
+        @Nullable final StatusType status = problem.getStatus();
+        @Nullable final URI type = problem.getType();
+
+        this.status = status == null ? 0 : status.getStatusCode();
+        this.type = type == null ? null : type.toString();
+        this.causeDepth = causeDepth(problem);
+        this.parameters = problem.getParameters().size();
+        this.stackTraces = stackTraces;
+        this.size = size;
+    }
+
+    private static int causeDepth(final Problem problem) {
+        if (!(problem instanceof Exceptional)) {
+            return 0;
+        }
+
+        int depth = 0;
+        @Nullable Exceptional cause = ((Exceptional) problem).getCause();
+        while (cause != null) {
+            depth++;
+            cause = cause.getCause();
+        }
+        return depth;
+    }
+
+    static long offset(final TokenStreamLocation location) {
+        final long bytes = location.getByteOffset();
+        return bytes >= 0 ? bytes : location.getCharOffset();
+    }
+
+    /**
+     * Generators only know how much of their output is still buffered, so the total offset is only known if the
+     * target tells how much was flushed to it already.
+     *
+     * @param json generator
+     * @return total number of bytes or chars written by the given generator, or {@link #UNKNOWN_SIZE}
+     */
+    static long offset(final JsonGenerator json) {
+        @Nullable final Object target = json.streamWriteOutputTarget();
+        final long flushed;
+
+        if (target instanceof ByteArrayBuilder) {
+            flushed = ((ByteArrayBuilder) target).size();
+        } else if (target instanceof ByteArrayOutputStream) {
+            flushed = ((ByteArrayOutputStream) target).size();
+        } else if (target instanceof StringWriter) {
+            flushed = ((StringWriter) target).getBuffer().length();
+        } else if (target instanceof CharArrayWriter) {
+            flushed = ((CharArrayWriter) target).size();
+        } else {
+            return UNKNOWN_SIZE;
+        }
+
+        return flushed + json.streamWriteOutputBuffered();
+    }
+
+    static long size(final long start, final long end) {
+        return start < 0 || end < start ? UNKNOWN_SIZE : end - start;
+    }
+
+}
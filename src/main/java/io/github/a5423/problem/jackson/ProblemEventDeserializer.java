@@ -0,0 +1,91 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.zalando.problem.Problem;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.DelegatingDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+
+/**
+ * Records a {@link ProblemDeserializationEvent} per problem read. Polymorphic reads are recorded where the type is
+ * resolved, since only there the parser still points into the original input, and the concrete deserializer that is
+ * picked afterwards is told to not record the same problem again.
+ */
+final class ProblemEventDeserializer extends DelegatingDeserializer {
+
+    private static final Object CLAIMED = ProblemEventDeserializer.class;
+
+    private final boolean stackTraces;
+
+    ProblemEventDeserializer(final ValueDeserializer<?> delegate, final boolean stackTraces) {
+        super(delegate);
+        this.stackTraces = stackTraces;
+    }
+
+    @Override
+    protected ValueDeserializer<?> newDelegatingInstance(final ValueDeserializer<?> delegate) {
+        return new ProblemEventDeserializer(delegate, stackTraces);
+    }
+
+    @Override
+    public Object deserialize(final JsonParser json, final DeserializationContext context) {
+        if (context.getAttribute(CLAIMED) == Boolean.TRUE) {
+            context.setAttribute(CLAIMED, Boolean.FALSE);
+            return super.deserialize(json, context);
+        }
+
+        final ProblemDeserializationEvent event = new ProblemDeserializationEvent();
+
+        if (!event.isEnabled()) {
+            return super.deserialize(json, context);
+        }
+
+        final long start = ProblemEvent.offset(json.currentTokenLocation());
+        event.begin();
+        final Object value = super.deserialize(json, context);
+        commit(event, value, start, json);
+        return value;
+    }
+
+    @Override
+    public Object deserializeWithType(final JsonParser json, final DeserializationContext context,
+            final TypeDeserializer deserializer) {
+        final ProblemDeserializationEvent event = new ProblemDeserializationEvent();
+
+        if (!event.isEnabled()) {
+            return super.deserializeWithType(json, context, deserializer);
+        }
+
+        final Object claimed = context.getAttribute(CLAIMED);
+        final long start = ProblemEvent.offset(json.currentTokenLocation());
+        event.begin();
+
+        final Object value;
+        try {
+            context.setAttribute(CLAIMED, Boolean.TRUE);
+            value = super.deserializeWithType(json, context, deserializer);
+        } finally {
+            context.setAttribute(CLAIMED, claimed);
+        }
+
+        commit(event, value, start, json);
+        return value;
+    }
+
+    private void commit(final ProblemDeserializationEvent event, final Object value, final long start,
+            final JsonParser json) {
+        event.end();
+
+        if (event.shouldCommit() && value instanceof Problem) {
+            final long end = ProblemEvent.offset(json.currentLocation());
+            event.populate((Problem) value, stackTraces, ProblemEvent.size(start, end));
+            event.commit();
+        }
+    }
+
+}
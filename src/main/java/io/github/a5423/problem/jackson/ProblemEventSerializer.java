@@ -0,0 +1,149 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.zalando.problem.Problem;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.util.NameTransformer;
+
+import java.util.Iterator;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Records a {@link ProblemSerializationEvent} around the serializer that actually writes the problem.
+ */
+final class ProblemEventSerializer extends ValueSerializer<Object> {
+
+    private final ValueSerializer<Object> delegate;
+    private final boolean stackTraces;
+
+    @SuppressWarnings("unchecked")
+    ProblemEventSerializer(final ValueSerializer<?> delegate, final boolean stackTraces) {
+        this.delegate = (ValueSerializer<Object>) delegate;
+        this.stackTraces = stackTraces;
+    }
+
+    @Override
+    public void serialize(final Object value, final JsonGenerator json, final SerializationContext context) {
+        final ProblemSerializationEvent event = new ProblemSerializationEvent();
+
+        if (!event.isEnabled()) {
+            delegate.serialize(value, json, context);
+            return;
+        }
+
+        final long start = ProblemEvent.offset(json);
+        event.begin();
+        delegate.serialize(value, json, context);
+        commit(event, value, start, json);
+    }
+
+    @Override
+    public void serializeWithType(final Object value, final JsonGenerator json, final SerializationContext context,
+            final TypeSerializer serializer) {
+        final ProblemSerializationEvent event = new ProblemSerializationEvent();
+
+        if (!event.isEnabled()) {
+            delegate.serializeWithType(value, json, context, serializer);
+            return;
+        }
+
+        final long start = ProblemEvent.offset(json);
+        event.begin();
+        delegate.serializeWithType(value, json, context, serializer);
+        commit(event, value, start, json);
+    }
+
+    private void commit(final ProblemSerializationEvent event, final Object value, final long start,
+            final JsonGenerator json) {
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.populate((Problem) value, stackTraces, ProblemEvent.size(start, ProblemEvent.offset(json)));
+            event.commit();
+        }
+    }
+
+    private ValueSerializer<?> wrap(final ValueSerializer<?> serializer) {
+        return serializer == delegate ? this : new ProblemEventSerializer(serializer, stackTraces);
+    }
+
+    @Override
+    public void resolve(final SerializationContext context) {
+        delegate.resolve(context);
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(final SerializationContext context, final BeanProperty property) {
+        return wrap(delegate.createContextual(context, property));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ValueSerializer<Object> unwrappingSerializer(final NameTransformer transformer) {
+        return (ValueSerializer<Object>) wrap(delegate.unwrappingSerializer(transformer));
+    }
+
+    @Override
+    public ValueSerializer<?> withFilterId(final Object filterId) {
+        return wrap(delegate.withFilterId(filterId));
+    }
+
+    @Override
+    public ValueSerializer<?> withIgnoredProperties(final Set<String> ignoredProperties) {
+        return wrap(delegate.withIgnoredProperties(ignoredProperties));
+    }
+
+    @Override
+    public ValueSerializer<?> withFormatOverrides(final SerializationConfig config, final JsonFormat.Value format) {
+        return wrap(delegate.withFormatOverrides(config, format));
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return delegate.handledType();
+    }
+
+    @Override
+    public boolean usesObjectId() {
+        return delegate.usesObjectId();
+    }
+
+    @Override
+    public boolean isUnwrappingSerializer() {
+        return delegate.isUnwrappingSerializer();
+    }
+
+    @Override
+    public ValueSerializer<?> getDelegatee() {
+        return delegate;
+    }
+
+    @Override
+    public Iterator<PropertyWriter> properties() {
+        return delegate.properties();
+    }
+
+    @Override
+    public boolean isEmpty(final SerializationContext context, final Object value) {
+        return delegate.isEmpty(context, value);
+    }
+
+    @Override
+    public void acceptJsonFormatVisitor(final JsonFormatVisitorWrapper visitor, final JavaType type) {
+        delegate.acceptJsonFormatVisitor(visitor, type);
+    }
+
+}
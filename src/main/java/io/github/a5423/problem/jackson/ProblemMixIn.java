@@ -49,6 +49,7 @@ interface ProblemMixIn extends Problem {
     URI getInstance();
 
     @JsonAnyGetter
+    @JsonSerialize(contentUsing = ParameterValueSerializer.class)
     @Override
     Map<String, Object> getParameters();
 
@@ -6,13 +6,24 @@
 package io.github.a5423.problem.jackson;
 
 import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.zalando.problem.*;
 import tools.jackson.core.Version;
+import tools.jackson.databind.DeserializationConfig;
 import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.introspect.AnnotatedClassResolver;
+import tools.jackson.databind.jsontype.NamedType;
 import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.type.TypeFactory;
 
+import java.lang.reflect.Type;
+import java.net.URI;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.apiguardian.api.API.Status.STABLE;
@@ -21,7 +32,9 @@ import static org.apiguardian.api.API.Status.STABLE;
 public final class ProblemModule extends JacksonModule {
 
     private final boolean stackTraces;
+    private final boolean stackTraceDeserialization;
     private final Map<Integer, StatusType> statuses;
+    private final Map<URI, Map<String, Type>> parameterTypes;
 
     /**
      * TODO document
@@ -43,12 +56,15 @@ public final class ProblemModule extends JacksonModule {
     public <E extends Enum<?> & StatusType> ProblemModule(final Class<? extends E>... types)
             throws IllegalArgumentException {
 
-        this(false, buildIndex(types));
+        this(false, false, buildIndex(types), Collections.emptyMap());
     }
 
-    private ProblemModule(final boolean stackTraces, final Map<Integer, StatusType> statuses) {
+    private ProblemModule(final boolean stackTraces, final boolean stackTraceDeserialization,
+            final Map<Integer, StatusType> statuses, final Map<URI, Map<String, Type>> parameterTypes) {
         this.stackTraces = stackTraces;
+        this.stackTraceDeserialization = stackTraceDeserialization;
         this.statuses = statuses;
+        this.parameterTypes = parameterTypes;
     }
 
 
@@ -70,12 +86,29 @@ public final class ProblemModule extends JacksonModule {
                 ExceptionalMixin.class :
                 ExceptionalWithoutStacktraceMixin.class);
 
+        module.setMixInAnnotation(LazyDetail.class, LazyDetailMixin.class);
         module.setMixInAnnotation(DefaultProblem.class, AbstractThrowableProblemMixIn.class);
-        module.setMixInAnnotation(Problem.class, ProblemMixIn.class);
+        module.setMixInAnnotation(Problem.class, stackTraceDeserialization ?
+                DeserializedProblemMixIn.class :
+                ProblemMixIn.class);
 
         module.addSerializer(StatusType.class, new StatusTypeSerializer());
         module.addDeserializer(StatusType.class, new StatusTypeDeserializer(statuses));
 
+        if (!parameterTypes.isEmpty()) {
+            module.addDeserializer(DefaultProblem.class, ThrowableProblemDeserializer.forDefaultProblem(
+                    resolveParameterTypes(context.typeFactory())));
+        }
+
+        if (stackTraceDeserialization) {
+            module.addDeserializer(DeserializedProblem.class, ThrowableProblemDeserializer.forDeserializedProblem(
+                    resolveParameterTypes(context.typeFactory())));
+            module.addDeserializer(StackTraceElement.class, new StackFrameDeserializer());
+        }
+
+        module.setSerializerModifier(new ProblemSerializerModifier(stackTraces));
+        module.setDeserializerModifier(new ProblemDeserializerModifier(stackTraces));
+
         module.setupModule(context);
     }
 
@@ -96,12 +129,94 @@ public final class ProblemModule extends JacksonModule {
         return Collections.unmodifiableMap(index);
     }
 
+    Map<URI, Map<String, JavaType>> resolveParameterTypes(final TypeFactory factory) {
+        final Map<URI, Map<String, JavaType>> resolved = new HashMap<>();
+
+        parameterTypes.forEach((type, parameters) -> {
+            final Map<String, JavaType> types = new HashMap<>();
+            parameters.forEach((name, parameterType) -> types.put(name, factory.constructType(parameterType)));
+            resolved.put(type, Collections.unmodifiableMap(types));
+        });
+
+        return Collections.unmodifiableMap(resolved);
+    }
+
+    static ProblemModule find(final ObjectMapper mapper) throws IllegalArgumentException {
+        return mapper.registeredModules().stream()
+                .filter(ProblemModule.class::isInstance)
+                .map(ProblemModule.class::cast)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("ProblemModule is not registered"));
+    }
+
+    /**
+     * @param config configuration of a mapper
+     * @return all named subtypes of {@link Problem} registered with the given configuration, excluding the fallbacks
+     */
+    static List<NamedType> registeredSubtypes(final DeserializationConfig config) {
+        return config.getSubtypeResolver()
+                .collectAndResolveSubtypesByTypeId(config,
+                        AnnotatedClassResolver.resolveWithoutSuperTypes(config, Problem.class))
+                .stream()
+                .filter(NamedType::hasName)
+                .filter(type -> type.getType() != DefaultProblem.class && type.getType() != DeserializedProblem.class)
+                .toList();
+    }
+
+    boolean hasStackTraces() {
+        return stackTraces;
+    }
+
+    boolean hasStackTraceDeserialization() {
+        return stackTraceDeserialization;
+    }
+
+    StatusType statusOf(final int statusCode) {
+        @Nullable final StatusType status = statuses.get(statusCode);
+        return status == null ? new UnknownStatus(statusCode) : status;
+    }
+
     public ProblemModule withStackTraces() {
         return withStackTraces(true);
     }
 
     public ProblemModule withStackTraces(final boolean stackTraces) {
-        return new ProblemModule(stackTraces, statuses);
+        return new ProblemModule(stackTraces, stackTraceDeserialization, statuses, parameterTypes);
+    }
+
+    public ProblemModule withStackTraceDeserialization() {
+        return withStackTraceDeserialization(true);
+    }
+
+    /**
+     * Reads the {@code stacktrace} member, as written with {@link #withStackTraces()}, back into the stack trace of
+     * deserialized problems. Problems without registered subtype are deserialized as {@link DeserializedProblem},
+     * which never captures the stack trace of the deserializing thread, whether or not the member is present.
+     * Registered subtypes are still created using their own constructors and only get their stack trace replaced.
+     *
+     * @param stackTraceDeserialization whether to deserialize stack traces
+     * @return a copy of this module with the given stack trace deserialization setting
+     */
+    public ProblemModule withStackTraceDeserialization(final boolean stackTraceDeserialization) {
+        return new ProblemModule(stackTraces, stackTraceDeserialization, statuses, parameterTypes);
+    }
+
+    /**
+     * Registers the types of custom parameters of problems with the given type that are deserialized as
+     * {@link DefaultProblem}, i.e. that have no registered subtype. Registered parameters are bound directly to the
+     * given type, e.g. a {@link java.math.BigDecimal} or a {@link java.util.List} of some bean, instead of generic
+     * maps, lists and numbers. Unregistered parameters are unaffected.
+     *
+     * @param type       problem type
+     * @param parameters parameter types by name, generic types can be passed using
+     *                   {@link tools.jackson.core.type.TypeReference#getType()}
+     * @return a copy of this module with the given parameter types, replacing any previous ones for the same type
+     */
+    public ProblemModule withParameterTypes(final URI type, final Map<String, ? extends Type> parameters) {
+        final Map<URI, Map<String, Type>> copy = new LinkedHashMap<>(parameterTypes);
+        copy.put(type, Collections.unmodifiableMap(new LinkedHashMap<>(parameters)));
+        return new ProblemModule(stackTraces, stackTraceDeserialization, statuses,
+                Collections.unmodifiableMap(copy));
     }
 
 }
\ No newline at end of file
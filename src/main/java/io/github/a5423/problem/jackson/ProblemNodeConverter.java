@@ -0,0 +1,235 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.zalando.problem.DefaultProblem;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ProblemBuilder;
+import org.zalando.problem.StatusType;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.jsontype.NamedType;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Converts between problems and JSON trees without going through a serialized representation. Trees of
+ * {@link DefaultProblem default problems} are built straight from their getters and default problems are built
+ * straight from trees. Everything else, e.g. registered subtypes, is converted by the mapper as usual. The results are
+ * the same as with {@link ObjectMapper#valueToTree(Object)} and {@link ObjectMapper#treeToValue}.
+ */
+@API(status = EXPERIMENTAL)
+public final class ProblemNodeConverter {
+
+    private final ObjectMapper mapper;
+    private final ProblemModule module;
+    private final Map<URI, Map<String, JavaType>> parameterTypes;
+    private final Set<String> registeredTypes;
+
+    /**
+     * @param mapper mapper with a registered {@link ProblemModule}
+     * @throws IllegalArgumentException if the mapper has no {@link ProblemModule}
+     */
+    public ProblemNodeConverter(final ObjectMapper mapper) throws IllegalArgumentException {
+        this.mapper = mapper;
+        this.module = ProblemModule.find(mapper);
+        this.parameterTypes = module.resolveParameterTypes(mapper.getTypeFactory());
+        this.registeredTypes = registeredTypes(mapper.deserializationConfig());
+    }
+
+    private static Set<String> registeredTypes(final DeserializationConfig config) {
+        return ProblemModule.registeredSubtypes(config).stream()
+                .map(NamedType::getName)
+                .collect(Collectors.collectingAndThen(Collectors.toSet(), Collections::unmodifiableSet));
+    }
+
+    public ObjectNode toNode(final Problem problem) throws JacksonException {
+        if (problem.getClass() != DefaultProblem.class && problem.getClass() != DeserializedProblem.class) {
+            return mapper.valueToTree(problem);
+        }
+
+        final ThrowableProblem source = (ThrowableProblem) problem;
+        final ObjectNode node = mapper.createObjectNode();
+
+        @Nullable final URI type = source.getType();
+        if (type != null && !Problem.DEFAULT_TYPE.equals(type)) {
+            node.put("type", type.toString());
+        }
+
+        putIfNotEmpty(node, "title", source.getTitle());
+
+        @Nullable final StatusType status = source.getStatus();
+        if (status != null) {
+            node.put("status", status.getStatusCode());
+        }
+
+        putIfNotEmpty(node, "detail", source.getDetail());
+
+        @Nullable final URI instance = source.getInstance();
+        if (instance != null) {
+            putIfNotEmpty(node, "instance", instance.toString());
+        }
+
+        @Nullable final ThrowableProblem cause = source.getCause();
+        if (cause != null) {
+            node.set("cause", toNode(cause));
+        }
+
+        if (module.hasStackTraces()) {
+            final StackTraceElement[] stackTrace = source.getStackTrace();
+            if (stackTrace.length > 0) {
+                final ArrayNode array = node.putArray("stacktrace");
+                for (final StackTraceElement element : stackTrace) {
+                    array.add(element.toString());
+                }
+            }
+        }
+
+        source.getParameters().forEach((name, value) -> node.set(name, toValueNode(value)));
+
+        return node;
+    }
+
+    private static void putIfNotEmpty(final ObjectNode node, final String name, @Nullable final String value) {
+        if (value != null && !value.isEmpty()) {
+            node.put(name, value);
+        }
+    }
+
+    private JsonNode toValueNode(@Nullable final Object value) {
+        @Nullable Object current = value;
+
+        while (current instanceof Supplier) {
+            current = ((Supplier<?>) current).get();
+        }
+
+        if (current == null) {
+            return mapper.getNodeFactory().nullNode();
+        } else if (current instanceof String) {
+            return mapper.getNodeFactory().stringNode((String) current);
+        } else if (current instanceof Integer) {
+            return mapper.getNodeFactory().numberNode((Integer) current);
+        } else if (current instanceof Long) {
+            return mapper.getNodeFactory().numberNode((Long) current);
+        } else if (current instanceof Boolean) {
+            return mapper.getNodeFactory().booleanNode((Boolean) current);
+        } else if (current instanceof JsonNode) {
+            return (JsonNode) current;
+        } else if (current instanceof Problem) {
+            return toNode((Problem) current);
+        }
+
+        return mapper.valueToTree(current);
+    }
+
+    public Problem fromNode(final JsonNode node) throws JacksonException {
+        return fromNode(node, Problem.class);
+    }
+
+    /**
+     * @param node tree to convert
+     * @param type requested type, e.g. {@link Problem}, {@link ThrowableProblem} or a registered subtype
+     * @param <T>  requested type
+     * @return the converted problem
+     * @throws JacksonException if the tree can't be converted to the requested type
+     */
+    public <T extends Problem> T fromNode(final JsonNode node, final Class<T> type) throws JacksonException {
+        if (node.isObject() && !module.hasStackTraceDeserialization() &&
+                type.isAssignableFrom(DefaultProblem.class) && !isRegistered(node.get("type"))) {
+            return type.cast(build(node));
+        }
+
+        return mapper.treeToValue(node, type);
+    }
+
+    private boolean isRegistered(@Nullable final JsonNode type) {
+        return type != null && (!type.isString() || registeredTypes.contains(type.stringValue()));
+    }
+
+    private ThrowableProblem build(final JsonNode node) {
+        final ProblemBuilder builder = Problem.builder();
+        final Map<String, JsonNode> parameters = new LinkedHashMap<>();
+        @Nullable URI type = null;
+
+        for (final Map.Entry<String, JsonNode> property : node.properties()) {
+            final JsonNode value = property.getValue();
+
+            switch (property.getKey()) {
+                case "type":
+                    type = convert(value, URI.class);
+                    builder.withType(type);
+                    break;
+                case "title":
+                    builder.withTitle(convert(value, String.class));
+                    break;
+                case "status":
+                    builder.withStatus(value.isInt() ? module.statusOf(value.intValue()) :
+                            convert(value, StatusType.class));
+                    break;
+                case "detail":
+                    builder.withDetail(convert(value, String.class));
+                    break;
+                case "instance":
+                    builder.withInstance(convert(value, URI.class));
+                    break;
+                case "cause":
+                    builder.withCause(value.isNull() ? null : fromNode(value, ThrowableProblem.class));
+                    break;
+                default:
+                    parameters.put(property.getKey(), value);
+            }
+        }
+
+        @Nullable final Map<String, JavaType> types = parameterTypes.get(type == null ? Problem.DEFAULT_TYPE : type);
+
+        parameters.forEach((name, value) -> {
+            @Nullable final JavaType parameterType = types == null ? null : types.get(name);
+            builder.with(name, parameterType == null ? toValue(value) : mapper.treeToValue(value, parameterType));
+        });
+
+        return builder.build();
+    }
+
+    @Nullable
+    private <T> T convert(final JsonNode value, final Class<T> type) {
+        if (value.isNull()) {
+            return null;
+        } else if (value.isString() && type == String.class) {
+            return type.cast(value.stringValue());
+        }
+        return mapper.treeToValue(value, type);
+    }
+
+    @Nullable
+    private Object toValue(final JsonNode value) {
+        if (value.isNull()) {
+            return null;
+        } else if (value.isString()) {
+            return value.stringValue();
+        } else if (value.isNumber()) {
+            return value.numberValue();
+        } else if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        return mapper.treeToValue(value, Object.class);
+    }
+
+}
@@ -0,0 +1,251 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.zalando.problem.Problem;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Applies edits to the top-level members of a serialized problem while passing all other tokens straight from the
+ * parser to the generator. Nothing is bound to objects, so untouched members, e.g. large custom parameters, are copied
+ * as they are.
+ * <p>
+ * Replaced members keep their position, members that weren't present are appended. Type mappings and the removal of
+ * {@code stacktrace} also apply to every nested {@code cause}, all other edits only to the top-level problem.
+ */
+@API(status = EXPERIMENTAL)
+public final class ProblemRewriter {
+
+    private static final String TYPE = "type";
+    private static final String CAUSE = "cause";
+    private static final String STACKTRACE = "stacktrace";
+
+    private final ObjectMapper mapper;
+    private final Map<String, Object> members;
+    private final Set<String> removals;
+    private final Map<String, String> types;
+
+    /**
+     * @param mapper mapper used to create parsers and generators and to write replaced member values
+     */
+    public ProblemRewriter(final ObjectMapper mapper) {
+        this(mapper, Collections.emptyMap(), Collections.emptySet(), Collections.emptyMap());
+    }
+
+    private ProblemRewriter(final ObjectMapper mapper, final Map<String, Object> members,
+            final Set<String> removals, final Map<String, String> types) {
+        this.mapper = mapper;
+        this.members = members;
+        this.removals = removals;
+        this.types = types;
+    }
+
+    public ProblemRewriter withInstance(final URI instance) {
+        return withMember("instance", instance.toString());
+    }
+
+    /**
+     * @param name  member name
+     * @param value member value, written using the mapper
+     * @return a copy of this rewriter that sets the given member, replacing any existing value
+     */
+    public ProblemRewriter withMember(final String name, @Nullable final Object value) {
+        final Map<String, Object> members = new LinkedHashMap<>(this.members);
+        members.put(name, value);
+        final Set<String> removals = new HashSet<>(this.removals);
+        removals.remove(name);
+        return new ProblemRewriter(mapper, Collections.unmodifiableMap(members),
+                Collections.unmodifiableSet(removals), types);
+    }
+
+    public ProblemRewriter withoutMember(final String name) {
+        final Map<String, Object> members = new LinkedHashMap<>(this.members);
+        members.remove(name);
+        final Set<String> removals = new HashSet<>(this.removals);
+        removals.add(name);
+        return new ProblemRewriter(mapper, Collections.unmodifiableMap(members),
+                Collections.unmodifiableSet(removals), types);
+    }
+
+    /**
+     * @param from type to replace, {@link Problem#DEFAULT_TYPE} also matches problems without type
+     * @param to   replacement
+     * @return a copy of this rewriter that maps the given type
+     */
+    public ProblemRewriter withType(final URI from, final URI to) {
+        final Map<String, String> types = new HashMap<>(this.types);
+        types.put(from.toString(), to.toString());
+        return new ProblemRewriter(mapper, members, removals, Collections.unmodifiableMap(types));
+    }
+
+    public byte[] rewrite(final byte[] json) throws JacksonException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(json.length + 64);
+
+        try (final JsonParser parser = mapper.createParser(json);
+             final JsonGenerator generator = mapper.createGenerator(output)) {
+            rewrite(parser, generator);
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * @param input  serialized problem, left open
+     * @param output target stream, left open
+     * @throws JacksonException if reading or writing fails
+     */
+    public void rewrite(final InputStream input, final OutputStream output) throws JacksonException {
+        try (final JsonParser parser = mapper.reader().without(StreamReadFeature.AUTO_CLOSE_SOURCE)
+                .createParser(input);
+             final JsonGenerator generator = mapper.writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                     .createGenerator(output)) {
+            rewrite(parser, generator);
+        }
+    }
+
+    /**
+     * Rewrites the next value of the given parser. Values other than objects are copied unchanged.
+     *
+     * @param parser    source, positioned before or on the start of the problem
+     * @param generator target, created by the same mapper if members are replaced with non-scalar values
+     * @throws JacksonException if reading or writing fails
+     */
+    public void rewrite(final JsonParser parser, final JsonGenerator generator) throws JacksonException {
+        @Nullable final JsonToken start = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+
+        if (start == null) {
+            return;
+        }
+
+        if (start != JsonToken.START_OBJECT) {
+            generator.copyCurrentStructureExact(parser);
+            return;
+        }
+
+        generator.writeStartObject();
+
+        final Set<String> written = new HashSet<>();
+        boolean typed = false;
+
+        for (JsonToken token = parser.nextToken(); token == JsonToken.PROPERTY_NAME; token = parser.nextToken()) {
+            final String name = parser.currentName();
+
+            if (members.containsKey(name)) {
+                parser.nextToken();
+                parser.skipChildren();
+                if (written.add(name)) {
+                    generator.writePOJOProperty(name, members.get(name));
+                }
+            } else if (removals.contains(name)) {
+                parser.nextToken();
+                parser.skipChildren();
+            } else if (TYPE.equals(name)) {
+                typed = true;
+                rewriteType(parser, generator);
+            } else if (CAUSE.equals(name)) {
+                rewriteCause(parser, generator);
+            } else {
+                generator.copyCurrentStructureExact(parser);
+            }
+        }
+
+        if (!typed && !members.containsKey(TYPE)) {
+            writeDefaultType(generator);
+        }
+
+        for (final Map.Entry<String, Object> member : members.entrySet()) {
+            if (!written.contains(member.getKey())) {
+                generator.writePOJOProperty(member.getKey(), member.getValue());
+            }
+        }
+
+        generator.writeEndObject();
+    }
+
+    private void rewriteCause(final JsonParser parser, final JsonGenerator generator) {
+        if (types.isEmpty() && !removals.contains(STACKTRACE)) {
+            generator.copyCurrentStructureExact(parser);
+            return;
+        }
+
+        generator.writeName(parser.currentName());
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            generator.copyCurrentStructureExact(parser);
+            return;
+        }
+
+        generator.writeStartObject();
+
+        boolean typed = false;
+
+        for (JsonToken token = parser.nextToken(); token == JsonToken.PROPERTY_NAME; token = parser.nextToken()) {
+            final String name = parser.currentName();
+
+            if (STACKTRACE.equals(name) && removals.contains(STACKTRACE)) {
+                parser.nextToken();
+                parser.skipChildren();
+            } else if (TYPE.equals(name)) {
+                typed = true;
+                rewriteType(parser, generator);
+            } else if (CAUSE.equals(name)) {
+                rewriteCause(parser, generator);
+            } else {
+                generator.copyCurrentStructureExact(parser);
+            }
+        }
+
+        if (!typed) {
+            writeDefaultType(generator);
+        }
+
+        generator.writeEndObject();
+    }
+
+    private void writeDefaultType(final JsonGenerator generator) {
+        @Nullable final String type = types.get(Problem.DEFAULT_TYPE.toString());
+        if (type != null) {
+            generator.writeStringProperty(TYPE, type);
+        }
+    }
+
+    private void rewriteType(final JsonParser parser, final JsonGenerator generator) {
+        if (types.isEmpty()) {
+            generator.copyCurrentStructureExact(parser);
+            return;
+        }
+
+        generator.writeName(parser.currentName());
+
+        if (parser.nextToken() == JsonToken.VALUE_STRING) {
+            final String type = parser.getString();
+            generator.writeString(types.getOrDefault(type, type));
+        } else {
+            generator.copyCurrentStructureExact(parser);
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.github.a5423.problem.ProblemSerialization")
+@Label("Problem Serialization")
+@Description("A problem was written by the problem module")
+final class ProblemSerializationEvent extends ProblemEvent {
+
+}
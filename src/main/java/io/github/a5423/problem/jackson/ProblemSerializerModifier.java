@@ -0,0 +1,50 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.zalando.problem.Problem;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.ValueSerializerModifier;
+
+import java.util.List;
+
+final class ProblemSerializerModifier extends ValueSerializerModifier {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean stackTraces;
+
+    ProblemSerializerModifier(final boolean stackTraces) {
+        this.stackTraces = stackTraces;
+    }
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(final SerializationConfig config,
+            final BeanDescription.Supplier description, final List<BeanPropertyWriter> properties) {
+
+        if (LazyDetail.class.isAssignableFrom(description.getBeanClass())) {
+            properties.replaceAll(property -> "detail".equals(property.getName()) ?
+                    new LazyDetailPropertyWriter(property) :
+                    property);
+        }
+
+        return properties;
+    }
+
+    @Override
+    public ValueSerializer<?> modifySerializer(final SerializationConfig config,
+            final BeanDescription.Supplier description, final ValueSerializer<?> serializer) {
+
+        if (Problem.class.isAssignableFrom(description.getBeanClass())) {
+            return new ProblemEventSerializer(serializer, stackTraces);
+        }
+
+        return serializer;
+    }
+
+}
@@ -0,0 +1,139 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.jdk.StackTraceElementDeserializer;
+import tools.jackson.databind.deser.std.StdScalarDeserializer;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Parses stack trace elements from the format of {@link StackTraceElement#toString()}, as written by
+ * {@link ExceptionalMixin}, e.g. {@code java.base/java.lang.Thread.run(Thread.java:833)}. Since relayed stack traces
+ * mostly consist of the same frames, parsed elements are cached in a fixed number of slots, each holding the frame
+ * that was parsed last for its hash. Elements in object form are deserialized as usual.
+ */
+final class StackFrameDeserializer extends StdScalarDeserializer<StackTraceElement> {
+
+    private static final int CACHE_SIZE = 4096;
+
+    private final AtomicReferenceArray<Entry> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    StackFrameDeserializer() {
+        super(StackTraceElement.class);
+    }
+
+    @Override
+    public StackTraceElement deserialize(final JsonParser json, final DeserializationContext context) {
+        if (json.currentToken() != JsonToken.VALUE_STRING) {
+            return (StackTraceElement) StackTraceElementDeserializer.construct(context).deserialize(json, context);
+        }
+
+        final String frame = json.getString();
+        final int hash = frame.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+        @Nullable final Entry cached = cache.get(index);
+
+        if (cached != null && cached.frame.equals(frame)) {
+            return cached.element;
+        }
+
+        @Nullable final StackTraceElement element = parse(frame);
+
+        if (element == null) {
+            return (StackTraceElement) context.handleWeirdStringValue(StackTraceElement.class, frame,
+                    "not a stack trace element");
+        }
+
+        cache.set(index, new Entry(frame, element));
+        return element;
+    }
+
+    @Nullable
+    static StackTraceElement parse(final String frame) {
+        final int open = frame.lastIndexOf('(');
+
+        if (open < 0 || !frame.endsWith(")")) {
+            return null;
+        }
+
+        int slash = frame.lastIndexOf('/', open);
+
+        // names of hidden classes, e.g. lambdas, end with a slash followed by an address
+        if (slash >= 0 && frame.startsWith("0x", slash + 1)) {
+            slash = frame.lastIndexOf('/', slash - 1);
+        }
+
+        final int dot = frame.lastIndexOf('.', open);
+
+        if (dot <= slash + 1) {
+            return null;
+        }
+
+        @Nullable String classLoaderName = null;
+        @Nullable String moduleName = null;
+        @Nullable String moduleVersion = null;
+
+        if (slash >= 0) {
+            final String prefix = frame.substring(0, slash);
+            final int separator = prefix.indexOf('/');
+            final String module = separator < 0 ? prefix : prefix.substring(separator + 1);
+
+            if (separator >= 0) {
+                classLoaderName = prefix.substring(0, separator);
+            }
+
+            final int at = module.indexOf('@');
+            if (at < 0) {
+                moduleName = module.isEmpty() ? null : module;
+            } else {
+                moduleName = module.substring(0, at);
+                moduleVersion = module.substring(at + 1);
+            }
+        }
+
+        final String declaringClass = frame.substring(slash + 1, dot);
+        final String methodName = frame.substring(dot + 1, open);
+        final String location = frame.substring(open + 1, frame.length() - 1);
+
+        @Nullable String fileName = null;
+        int lineNumber = -1;
+
+        if ("Native Method".equals(location)) {
+            lineNumber = -2;
+        } else if (!"Unknown Source".equals(location)) {
+            final int colon = location.lastIndexOf(':');
+            fileName = colon < 0 ? location : location.substring(0, colon);
+
+            if (colon >= 0) {
+                try {
+                    lineNumber = Integer.parseInt(location.substring(colon + 1));
+                } catch (final NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+
+        return new StackTraceElement(classLoaderName, moduleName, moduleVersion,
+                declaringClass, methodName, fileName, lineNumber);
+    }
+
+    private static final class Entry {
+
+        private final String frame;
+        private final StackTraceElement element;
+
+        Entry(final String frame, final StackTraceElement element) {
+            this.frame = frame;
+            this.element = element;
+        }
+
+    }
+
+}
@@ -0,0 +1,206 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.zalando.problem.DefaultProblem;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ProblemBuilder;
+import org.zalando.problem.StatusType;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.util.TokenBuffer;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces the creator based deserialization of problems without registered subtype, i.e. {@link DefaultProblem}
+ * once parameter types are registered and {@link DeserializedProblem} once stack trace deserialization is enabled.
+ * Members with a registered type are bound directly to that type, all others end up as untyped values just like with
+ * {@code @JsonAnySetter}. Members that may be typed but precede the {@code type} member are buffered until the type is
+ * known.
+ *
+ * @param <T> deserialized problem type
+ */
+final class ThrowableProblemDeserializer<T extends ThrowableProblem> extends StdDeserializer<T> {
+
+    @FunctionalInterface
+    interface Factory<T extends ThrowableProblem> {
+
+        T create(@Nullable URI type, @Nullable String title, @Nullable StatusType status, @Nullable String detail,
+                @Nullable URI instance, @Nullable ThrowableProblem cause, Map<String, Object> parameters,
+                StackTraceElement @Nullable [] stackTrace);
+
+    }
+
+    private final Factory<T> factory;
+    private final boolean stackTraces;
+    private final Map<URI, Map<String, JavaType>> parameterTypes;
+    private final Set<String> typedNames;
+
+    private ThrowableProblemDeserializer(final Class<T> type, final Factory<T> factory, final boolean stackTraces,
+            final Map<URI, Map<String, JavaType>> parameterTypes) {
+        super(type);
+        this.factory = factory;
+        this.stackTraces = stackTraces;
+        this.parameterTypes = parameterTypes;
+        this.typedNames = typedNames(parameterTypes);
+    }
+
+    static ThrowableProblemDeserializer<DefaultProblem> forDefaultProblem(
+            final Map<URI, Map<String, JavaType>> parameterTypes) {
+        return new ThrowableProblemDeserializer<>(DefaultProblem.class,
+                ThrowableProblemDeserializer::build, false, parameterTypes);
+    }
+
+    /**
+     * @param parameterTypes registered parameter types
+     * @return a deserializer that reads the {@code stacktrace} member instead of treating it as a parameter
+     */
+    static ThrowableProblemDeserializer<DeserializedProblem> forDeserializedProblem(
+            final Map<URI, Map<String, JavaType>> parameterTypes) {
+        return new ThrowableProblemDeserializer<>(DeserializedProblem.class,
+                DeserializedProblem::new, true, parameterTypes);
+    }
+
+    private static DefaultProblem build(@Nullable final URI type, @Nullable final String title,
+            @Nullable final StatusType status, @Nullable final String detail, @Nullable final URI instance,
+            @Nullable final ThrowableProblem cause, final Map<String, Object> parameters,
+            final StackTraceElement @Nullable [] stackTrace) {
+        final ProblemBuilder builder = Problem.builder()
+                .withType(type)
+                .withTitle(title)
+                .withStatus(status)
+                .withDetail(detail)
+                .withInstance(instance)
+                .withCause(cause);
+
+        parameters.forEach(builder::with);
+
+        return (DefaultProblem) builder.build();
+    }
+
+    private static Set<String> typedNames(final Map<URI, Map<String, JavaType>> parameterTypes) {
+        final Set<String> names = new HashSet<>();
+        parameterTypes.values().forEach(types -> names.addAll(types.keySet()));
+        return Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    public T deserialize(final JsonParser json, final DeserializationContext context) {
+        JsonToken token = json.currentToken();
+
+        if (token == JsonToken.START_OBJECT) {
+            token = json.nextToken();
+        }
+
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+        @Nullable URI type = null;
+        boolean typeKnown = false;
+        @Nullable String title = null;
+        @Nullable StatusType status = null;
+        @Nullable String detail = null;
+        @Nullable URI instance = null;
+        @Nullable ThrowableProblem cause = null;
+        StackTraceElement @Nullable [] stackTrace = null;
+
+        for (; token == JsonToken.PROPERTY_NAME; token = json.nextToken()) {
+            final String name = json.currentName();
+            final JsonToken value = json.nextToken();
+
+            if (stackTraces && "stacktrace".equals(name)) {
+                stackTrace = read(json, context, StackTraceElement[].class);
+                continue;
+            }
+
+            switch (name) {
+                case "type":
+                    type = read(json, context, URI.class);
+                    typeKnown = true;
+                    break;
+                case "title":
+                    title = read(json, context, String.class);
+                    break;
+                case "status":
+                    status = read(json, context, StatusType.class);
+                    break;
+                case "detail":
+                    detail = read(json, context, String.class);
+                    break;
+                case "instance":
+                    instance = read(json, context, URI.class);
+                    break;
+                case "cause":
+                    cause = read(json, context, ThrowableProblem.class);
+                    break;
+                default:
+                    if (value == JsonToken.VALUE_NULL) {
+                        parameters.put(name, null);
+                    } else if (typeKnown) {
+                        parameters.put(name, readParameter(json, context, type, name));
+                    } else if (typedNames.contains(name)) {
+                        parameters.put(name, context.bufferAsCopyOfValue(json));
+                    } else {
+                        parameters.put(name, context.readValue(json, Object.class));
+                    }
+            }
+        }
+
+        if (token != JsonToken.END_OBJECT) {
+            return handledType().cast(context.handleUnexpectedToken(handledType(), json));
+        }
+
+        for (final Map.Entry<String, Object> entry : parameters.entrySet()) {
+            entry.setValue(resolve(entry, type, context));
+        }
+
+        return factory.create(type, title, status, detail, instance, cause, parameters, stackTrace);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<T> handledType() {
+        return (Class<T>) super.handledType();
+    }
+
+    @Nullable
+    private Object resolve(final Map.Entry<String, Object> entry, @Nullable final URI type,
+            final DeserializationContext context) {
+        final Object value = entry.getValue();
+
+        if (!(value instanceof TokenBuffer)) {
+            return value;
+        }
+
+        try (final JsonParser buffered = ((TokenBuffer) value).asParserOnFirstToken(context)) {
+            return readParameter(buffered, context, type, entry.getKey());
+        }
+    }
+
+    private Object readParameter(final JsonParser json, final DeserializationContext context,
+            @Nullable final URI type, final String name) {
+        @Nullable final Map<String, JavaType> types = parameterTypes.get(type == null ? Problem.DEFAULT_TYPE : type);
+        @Nullable final JavaType parameterType = types == null ? null : types.get(name);
+
+        return parameterType == null ?
+                context.readValue(json, Object.class) :
+                context.readValue(json, parameterType);
+    }
+
+    @Nullable
+    private static <T> T read(final JsonParser json, final DeserializationContext context, final Class<T> type) {
+        return json.currentToken() == JsonToken.VALUE_NULL ? null : context.readValue(json, type);
+    }
+
+}
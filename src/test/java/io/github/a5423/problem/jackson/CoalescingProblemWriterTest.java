@@ -0,0 +1,167 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.zalando.problem.Status.SERVICE_UNAVAILABLE;
+
+final class CoalescingProblemWriterTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new ProblemModule())
+            .build();
+
+    private final CoalescingProblemWriter unit = new CoalescingProblemWriter(mapper);
+
+    @Test
+    void shouldReuseOutputOfIdenticalProblems() {
+        final byte[] first = unit.writeValueAsBytes(problem(null, 3));
+        final byte[] second = unit.writeValueAsBytes(problem(null, 3));
+
+        assertThat(first).isEqualTo(mapper.writeValueAsBytes(problem(null, 3)));
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(unit.hits()).isEqualTo(1);
+        assertThat(unit.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReuseOutputOfProblemsWithDifferentInstances() {
+        final List<ThrowableProblem> problems = List.of(
+                problem(URI.create("/requests/1"), 3),
+                problem(URI.create("/requests/2"), 3),
+                problem(URI.create("/requests/\u00e4?q=1"), 3));
+
+        assertThat(problems).allSatisfy(problem ->
+                assertThat(unit.writeValueAsBytes(problem)).isEqualTo(mapper.writeValueAsBytes(problem)));
+        assertThat(unit.hits()).isEqualTo(2);
+        assertThat(unit.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteToStream() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        unit.writeValue(output, problem(URI.create("/requests/1"), 3));
+        unit.writeValue(output, problem(URI.create("/requests/2"), 3));
+        unit.writeValue(output, Problem.valueOf(SERVICE_UNAVAILABLE));
+
+        assertThat(output.toString()).isEqualTo(
+                mapper.writeValueAsString(problem(URI.create("/requests/1"), 3)) +
+                mapper.writeValueAsString(problem(URI.create("/requests/2"), 3)) +
+                mapper.writeValueAsString(Problem.valueOf(SERVICE_UNAVAILABLE)));
+        assertThat(unit.hits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotReuseOutputOfDifferentProblems() {
+        final List<ThrowableProblem> problems = List.of(
+                problem(null, 3),
+                problem(null, 4),
+                problem(null, 4L),
+                problem(URI.create("/requests/1"), 4L),
+                Problem.builder().withTitle("Service Unavailable").withStatus(SERVICE_UNAVAILABLE).build(),
+                Problem.builder().withTitle("Service Unavailable").build());
+
+        assertThat(problems).allSatisfy(problem ->
+                assertThat(unit.writeValueAsBytes(problem)).isEqualTo(mapper.writeValueAsBytes(problem)));
+        assertThat(unit.hits()).isZero();
+    }
+
+    @Test
+    void shouldKeepInstanceThatCantBeLocated() {
+        final ThrowableProblem first = Problem.builder()
+                .withDetail("/requests/1")
+                .withInstance(URI.create("/requests/1"))
+                .build();
+        final ThrowableProblem second = Problem.builder()
+                .withDetail("/requests/1")
+                .withInstance(URI.create("/requests/2"))
+                .build();
+
+        assertThat(unit.writeValueAsBytes(first)).isEqualTo(mapper.writeValueAsBytes(first));
+        assertThat(unit.writeValueAsBytes(second)).isEqualTo(mapper.writeValueAsBytes(second));
+        assertThat(unit.writeValueAsBytes(second)).isEqualTo(mapper.writeValueAsBytes(second));
+        assertThat(unit.hits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCoalesceProblemsWithCauseOrComplexParameters() {
+        final List<Problem> problems = List.of(
+                Problem.builder().withCause(problem(null, 3)).build(),
+                Problem.builder().with("retries", List.of(1, 2)).build(),
+                new InsufficientFundsProblem(10, -20));
+
+        problems.forEach(unit::writeValueAsBytes);
+        problems.forEach(unit::writeValueAsBytes);
+
+        assertThat(unit.hits()).isZero();
+        assertThat(unit.misses()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldNotCoalesceProblemsWithStackTraces() {
+        final CoalescingProblemWriter unit = new CoalescingProblemWriter(JsonMapper.builder()
+                .addModule(new ProblemModule().withStackTraces())
+                .build());
+
+        unit.writeValueAsBytes(problem(null, 3));
+        unit.writeValueAsBytes(problem(null, 3));
+
+        assertThat(unit.hits()).isZero();
+    }
+
+    @Test
+    void shouldExpireOutput() {
+        final CoalescingProblemWriter unit = this.unit.withWindow(Duration.ofNanos(1));
+
+        unit.writeValueAsBytes(problem(null, 3));
+        unit.writeValueAsBytes(problem(null, 3));
+
+        assertThat(unit.hits()).isZero();
+    }
+
+    @Test
+    void shouldReplaceOutputOfCollidingProblems() {
+        final CoalescingProblemWriter unit = this.unit.withCapacity(1);
+
+        unit.writeValueAsBytes(problem(null, 3));
+        unit.writeValueAsBytes(problem(null, 4));
+        unit.writeValueAsBytes(problem(null, 4));
+        unit.writeValueAsBytes(problem(null, 3));
+
+        assertThat(unit.hits()).isEqualTo(1);
+        assertThat(unit.misses()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> unit.withWindow(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> unit.withCapacity(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ThrowableProblem problem(final URI instance, final Object retries) {
+        return Problem.builder()
+                .withType(URI.create("https://example.org/unavailable"))
+                .withTitle("Service Unavailable")
+                .withStatus(SERVICE_UNAVAILABLE)
+                .withDetail("Downstream service is not responding")
+                .withInstance(instance)
+                .with("retries", retries)
+                .build();
+    }
+
+}
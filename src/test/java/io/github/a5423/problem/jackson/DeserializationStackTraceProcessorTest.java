@@ -0,0 +1,95 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.problem.ThrowableProblem;
+import org.zalando.problem.spi.StackTraceProcessor;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class DeserializationStackTraceProcessorTest {
+
+    private final StackTraceProcessor unit = new DeserializationStackTraceProcessor(List.of(
+            "sun.reflect",
+            "java.lang.reflect",
+            "java.lang.invoke",
+            "jdk.internal.reflect",
+            "tools.jackson"));
+
+    @Test
+    void shouldRemoveLeadingFramesLikeFixture() {
+        final List<List<StackTraceElement>> stackTraces = List.of(
+                frames("jdk.internal.reflect.NativeConstructorAccessorImpl", "java.lang.reflect.Constructor",
+                        "tools.jackson.databind.deser.bean.BeanDeserializer",
+                        "io.github.a5423.problem.jackson.ProblemEventDeserializer",
+                        "org.example.Client", "tools.jackson.databind.ObjectMapper", "org.example.Main"),
+                frames("org.example.Client", "tools.jackson.databind.ObjectMapper"),
+                frames("tools.jackson.databind.ObjectMapper", "java.lang.invoke.MethodHandle"),
+                frames("tools", "tools.jacksonian.Example", "sun.reflectx.Example"),
+                frames());
+
+        assertThat(stackTraces).allSatisfy(stackTrace ->
+                assertThat(unit.process(stackTrace))
+                        .containsExactlyElementsOf(new JacksonStackTraceProcessor().process(stackTrace)));
+    }
+
+    @Test
+    void shouldRemoveLeadingFramesOfOtherCollections() {
+        final ArrayDeque<StackTraceElement> stackTrace = new ArrayDeque<>(
+                frames("tools.jackson.databind.ObjectMapper", "org.example.Client", "org.example.Main"));
+
+        assertThat(unit.process(stackTrace))
+                .extracting(StackTraceElement::getClassName)
+                .containsExactly("org.example.Client", "org.example.Main");
+    }
+
+    @Test
+    void shouldUseCustomPrefixes() {
+        final StackTraceProcessor unit = new DeserializationStackTraceProcessor(List.of("org.example.http", "org"));
+
+        assertThat(unit.process(frames("org.example.http.Client", "org.example.Main", "com.example.Main")))
+                .extracting(StackTraceElement::getClassName)
+                .containsExactly("com.example.Main");
+    }
+
+    @Test
+    void shouldBeRegisteredAsService() {
+        assertThat(ServiceLoader.load(StackTraceProcessor.class))
+                .hasAtLeastOneElementOfType(DeserializationStackTraceProcessor.class);
+    }
+
+    @Test
+    void shouldRemoveFramesOfProblemBuilder() {
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new ProblemModule()
+                        .withParameterTypes(URI.create("https://example.org/out-of-credit"),
+                                Map.of("balance", BigDecimal.class)))
+                .build();
+
+        final ThrowableProblem problem = mapper.readValue(
+                "{\"type\":\"https://example.org/out-of-credit\",\"balance\":30}", ThrowableProblem.class);
+
+        assertThat(problem.getStackTrace()[0].getClassName())
+                .isEqualTo(DeserializationStackTraceProcessorTest.class.getName());
+    }
+
+    private static List<StackTraceElement> frames(final String... classNames) {
+        return Arrays.stream(classNames)
+                .map(className -> new StackTraceElement(className, "run", null, -1))
+                .toList();
+    }
+
+}
@@ -0,0 +1,183 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.problem.Exceptional;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.InvalidFormatException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.zalando.problem.Status.BAD_REQUEST;
+
+final class DeserializedProblemTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .registerSubtypes(InsufficientFundsProblem.class)
+            .addModule(new ProblemModule()
+                    .withStackTraces()
+                    .withStackTraceDeserialization())
+            .build();
+
+    @Test
+    void shouldDeserializeStackTrace() {
+        final ThrowableProblem original = Problem.builder()
+                .withType(URI.create("https://example.org/out-of-stock"))
+                .withTitle("Out of Stock")
+                .withStatus(BAD_REQUEST)
+                .with("product", "B00027Y5QG")
+                .build();
+
+        final Problem problem = mapper.readValue(mapper.writeValueAsBytes(original), Problem.class);
+
+        assertThat(problem)
+                .isInstanceOf(DeserializedProblem.class)
+                .isInstanceOf(Exceptional.class);
+        assertThat(problem.getType()).isEqualTo(original.getType());
+        assertThat(problem.getStatus()).isEqualTo(BAD_REQUEST);
+        assertThat(problem.getParameters()).containsOnlyKeys("product");
+        assertThat(((ThrowableProblem) problem).getStackTrace())
+                .extracting(StackTraceElement::toString)
+                .containsExactlyElementsOf(Arrays.stream(original.getStackTrace())
+                        .map(StackTraceElement::toString)
+                        .toList());
+    }
+
+    @Test
+    void shouldDeserializeStackTraceOfCause() {
+        final ThrowableProblem original = Problem.builder()
+                .withTitle("Preauthorization Failed")
+                .withCause(Problem.builder()
+                        .withTitle("Expired Credit Card")
+                        .build())
+                .build();
+
+        final ThrowableProblem problem = mapper.readValue(mapper.writeValueAsBytes(original), ThrowableProblem.class);
+
+        assertThat(problem.getCause()).isInstanceOf(DeserializedProblem.class);
+        assertThat(problem.getCause().getStackTrace()).hasSameSizeAs(original.getCause().getStackTrace());
+    }
+
+    @Test
+    void shouldNotCaptureStackTrace() throws IOException {
+        final ThrowableProblem problem = mapper.readValue(
+                getResource("default.json").openStream(), ThrowableProblem.class);
+
+        assertThat(problem).isInstanceOf(DeserializedProblem.class);
+        assertThat(problem.getStackTrace()).isEmpty();
+        assertThat(problem.getParameters()).containsEntry("product", "B00027Y5QG");
+    }
+
+    @Test
+    void shouldDeserializeStackTraceWithoutSerializingIt() {
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new ProblemModule().withStackTraceDeserialization())
+                .build();
+
+        final ThrowableProblem problem = mapper.readValue("{" +
+                "\"title\":\"Out of Stock\"," +
+                "\"stacktrace\":[\"org.example.Example.execute(Example.java:17)\"]}", ThrowableProblem.class);
+
+        assertThat(problem.getStackTrace())
+                .containsExactly(new StackTraceElement("org.example.Example", "execute", "Example.java", 17));
+        assertThat(problem.getParameters()).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceStackTraceOfRegisteredSubtypes() {
+        final ThrowableProblem problem = mapper.readValue("{" +
+                "\"type\":\"https://example.org/insufficient-funds\"," +
+                "\"balance\":10," +
+                "\"debit\":-2," +
+                "\"stacktrace\":[\"org.example.Example.execute(Example.java:17)\"]}", ThrowableProblem.class);
+
+        assertThat(problem).isInstanceOf(InsufficientFundsProblem.class);
+        assertThat(problem.getStackTrace())
+                .containsExactly(new StackTraceElement("org.example.Example", "execute", "Example.java", 17));
+    }
+
+    @Test
+    void shouldSerializeLikePlainModule() {
+        final ObjectMapper plain = JsonMapper.builder()
+                .addModule(new ProblemModule())
+                .build();
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new ProblemModule().withStackTraceDeserialization())
+                .build();
+
+        final ThrowableProblem problem = Problem.builder()
+                .withTitle("Preauthorization Failed")
+                .withStatus(BAD_REQUEST)
+                .withCause(Problem.builder()
+                        .withTitle("Expired Credit Card")
+                        .build())
+                .with("amount", 42)
+                .build();
+
+        assertThat(mapper.writeValueAsString(problem)).isEqualTo(plain.writeValueAsString(problem));
+        assertThat(mapper.writeValueAsString(mapper.readValue(plain.writeValueAsBytes(problem), Problem.class)))
+                .isEqualTo(plain.writeValueAsString(problem));
+    }
+
+    @Test
+    void shouldParseFrames() {
+        final Supplier<StackTraceElement[]> lambda = () -> new Throwable().getStackTrace();
+
+        final StackTraceElement[] elements = {
+                new StackTraceElement("org.example.Example", "<init>", "Example.java", 17),
+                new StackTraceElement("org.example.Example", "execute", "Example.java", -1),
+                new StackTraceElement("org.example.Example", "execute", null, -1),
+                new StackTraceElement("org.example.Example$Inner", "lambda$run$0", null, -2),
+                new StackTraceElement("app", "org.example", "1.0", "org.example.Example", "run", "Example.java", 5),
+                new StackTraceElement("app", null, null, "org.example.Example", "run", "Example.java", 5),
+                new StackTraceElement(null, "org.example", null, "org.example.Example", "run", "Example.java", 5),
+                lambda.get()[0],
+                Thread.currentThread().getStackTrace()[0],
+        };
+
+        assertThat(elements).allSatisfy(element ->
+                assertThat(StackFrameDeserializer.parse(element.toString()))
+                        .hasToString(element.toString()));
+    }
+
+    @Test
+    void shouldCacheFramesAfterManyDistinctFrames() {
+        final String frames = IntStream.range(0, 10_000)
+                .mapToObj(line -> "\"org.example.Example.execute(Example.java:" + line + ")\"")
+                .collect(Collectors.joining(",", "[", "]"));
+        mapper.readValue(frames, StackTraceElement[].class);
+
+        final StackTraceElement[] elements = mapper.readValue(
+                "[\"org.example.Example.main(Example.java:11)\",\"org.example.Example.main(Example.java:11)\"]",
+                StackTraceElement[].class);
+
+        assertThat(elements[1]).isSameAs(elements[0]);
+    }
+
+    @Test
+    void shouldRejectMalformedFrames() {
+        assertThatThrownBy(() -> mapper.readValue("{\"stacktrace\":[\"execute\"]}", ThrowableProblem.class))
+                .isInstanceOf(InvalidFormatException.class);
+    }
+
+    private static URL getResource(final String name) {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return Objects.requireNonNull(loader.getResource(name), () -> "resource " + name + " not found.");
+    }
+
+}
@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class LazyDetailTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new ProblemModule())
+            .build();
+
+    @Test
+    void shouldRenderTemplateWithoutFormattingDetail() {
+        final QuotaExceededProblem problem =
+                new QuotaExceededProblem("Used {} of {} requests for \"{}\"", 120, 100, "orders");
+
+        final String json = mapper.writeValueAsString(problem);
+
+        assertThat(problem.getFormatted()).isZero();
+        assertThatJson(json)
+                .isObject()
+                .containsOnlyKeys("type", "title", "status", "detail")
+                .containsEntry("detail", "Used 120 of 100 requests for \"orders\"")
+                .containsEntry("title", "Quota Exceeded");
+    }
+
+    @Test
+    void shouldNotExposeTemplateOfCauses() {
+        final ThrowableProblem problem = Problem.builder()
+                .withTitle("Order Failed")
+                .withCause(new QuotaExceededProblem("Used {} of {} for {}", 120, 100, "secret-account-42"))
+                .build();
+
+        assertThatJson(mapper.writeValueAsString(problem))
+                .node("cause")
+                .isObject()
+                .containsOnlyKeys("type", "title", "status", "detail");
+    }
+
+    @Test
+    void shouldRenderLongTemplates() {
+        final String argument = "x".repeat(10_000);
+        final QuotaExceededProblem problem = new QuotaExceededProblem("{}|{}", argument, argument);
+
+        assertThatJson(mapper.writeValueAsString(problem))
+                .node("detail")
+                .isEqualTo(argument + "|" + argument);
+    }
+
+    @Test
+    void shouldFallBackToDetailWithoutTemplate() {
+        final QuotaExceededProblem problem = new QuotaExceededProblem(null);
+
+        assertThatJson(mapper.writeValueAsString(problem))
+                .node("detail")
+                .isEqualTo("Quota exceeded");
+    }
+
+    @Test
+    void shouldOmitEmptyTemplate() {
+        final QuotaExceededProblem problem = new QuotaExceededProblem("");
+
+        assertThatJson(mapper.writeValueAsString(problem))
+                .node("detail")
+                .isAbsent();
+    }
+
+    @Test
+    void shouldOmitEmptyDetail() {
+        final QuotaExceededProblem problem = new QuotaExceededProblem("{}{}", "", "");
+
+        assertThatJson(mapper.writeValueAsString(problem))
+                .node("detail")
+                .isAbsent();
+        assertThat(mapper.valueToTree(problem).has("detail")).isFalse();
+    }
+
+    @Test
+    void shouldRenderTemplatesStartingWithEmptyArguments() {
+        final QuotaExceededProblem problem = new QuotaExceededProblem("{}{}{} used", "", "", 120);
+
+        assertThatJson(mapper.writeValueAsString(problem))
+                .node("detail")
+                .isEqualTo("120 used");
+    }
+
+    @Test
+    void shouldConvertToTree() {
+        final QuotaExceededProblem problem = new QuotaExceededProblem("Used {} of {}", 120, 100);
+
+        final JsonNode tree = mapper.valueToTree(problem);
+
+        assertThat(tree.get("detail").stringValue()).isEqualTo("Used 120 of 100");
+        assertThat(new ProblemNodeConverter(mapper).toNode(problem)).isEqualTo(tree);
+    }
+
+    @Test
+    void shouldFormat() {
+        assertThat(LazyDetail.format("{} of {}", 1, 2)).isEqualTo("1 of 2");
+        assertThat(LazyDetail.format("{} of {}", 1)).isEqualTo("1 of {}");
+        assertThat(LazyDetail.format("{}", 1, 2)).isEqualTo("1");
+        assertThat(LazyDetail.format("{}{}", null, "")).isEqualTo("null");
+        assertThat(LazyDetail.format("no placeholders")).isEqualTo("no placeholders");
+    }
+
+}
@@ -0,0 +1,83 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.problem.Problem;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.zalando.problem.Status.BAD_REQUEST;
+
+final class ProblemBatchWriterTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new ProblemModule())
+            .build();
+
+    private final List<Problem> problems = IntStream.range(0, 100)
+            .mapToObj(index -> Problem.builder()
+                    .withType(URI.create("https://example.org/invalid-field"))
+                    .withTitle("Invalid Field")
+                    .withStatus(BAD_REQUEST)
+                    .withDetail("Field " + index + " is invalid")
+                    .with("index", index)
+                    .build())
+            .collect(Collectors.toList());
+
+    @Test
+    void shouldWriteArrayIdenticalToSequentialSerialization() {
+        final ProblemBatchWriter unit = new ProblemBatchWriter(mapper).withChunkSize(7);
+
+        assertThat(unit.writeArrayAsBytes(problems))
+                .isEqualTo(mapper.writeValueAsBytes(problems));
+    }
+
+    @Test
+    void shouldWriteSingleChunkArray() {
+        final ProblemBatchWriter unit = new ProblemBatchWriter(mapper);
+
+        assertThat(unit.writeArrayAsBytes(problems))
+                .isEqualTo(mapper.writeValueAsBytes(problems));
+    }
+
+    @Test
+    void shouldWriteEmptyArray() {
+        final ProblemBatchWriter unit = new ProblemBatchWriter(mapper);
+
+        assertThat(unit.writeArrayAsBytes(Collections.emptyList()))
+                .asString(StandardCharsets.UTF_8)
+                .isEqualTo("[]");
+    }
+
+    @Test
+    void shouldWriteLines() {
+        final ProblemBatchWriter unit = new ProblemBatchWriter(mapper).withChunkSize(7);
+
+        final String expected = problems.stream()
+                .map(mapper::writeValueAsString)
+                .collect(Collectors.joining("\n", "", "\n"));
+
+        assertThat(unit.writeLinesAsBytes(problems))
+                .asString(StandardCharsets.UTF_8)
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void shouldRejectNonPositiveChunkSize() {
+        assertThatThrownBy(() -> new ProblemBatchWriter(mapper).withChunkSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
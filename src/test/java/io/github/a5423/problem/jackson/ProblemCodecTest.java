@@ -0,0 +1,141 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.problem.DefaultProblem;
+import org.zalando.problem.Exceptional;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.zalando.problem.Status.BAD_REQUEST;
+
+final class ProblemCodecTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .registerSubtypes(InsufficientFundsProblem.class)
+            .addModule(new ProblemModule())
+            .build();
+
+    private final ProblemCodec unit = new ProblemCodec(mapper);
+
+    @Test
+    void shouldReadBytes() throws IOException {
+        final Problem problem = unit.readValue(read("default.json"));
+
+        assertThat(problem).isInstanceOf(DefaultProblem.class);
+        assertThat(problem.getType()).hasToString("https://example.org/not-out-of-stock");
+        assertThat(problem.getStatus()).isEqualTo(BAD_REQUEST);
+        assertThat(problem.getParameters()).containsEntry("product", "B00027Y5QG");
+    }
+
+    @Test
+    void shouldReadRegisteredSubtype() throws IOException {
+        final InsufficientFundsProblem problem =
+                unit.readValue(read("insufficient-funds.json"), InsufficientFundsProblem.class);
+
+        assertThat(problem.getBalance()).isEqualTo(10);
+        assertThat(problem.getDebit()).isEqualTo(-20);
+    }
+
+    @Test
+    void shouldReadStream() throws IOException {
+        try (final InputStream stream = getResource("insufficient-funds.json").openStream()) {
+            assertThat(unit.readValue(stream)).isInstanceOf(InsufficientFundsProblem.class);
+        }
+    }
+
+    @Test
+    void shouldReadExceptional() throws IOException {
+        final Exceptional exceptional = unit.readValue(
+                new ByteArrayInputStream(read("insufficient-funds.json")), Exceptional.class);
+
+        assertThatThrownBy(exceptional::propagate).isInstanceOf(InsufficientFundsProblem.class);
+    }
+
+    @Test
+    void shouldReadHeapBuffer() throws IOException {
+        final byte[] json = read("default.json");
+        final ByteBuffer buffer = ByteBuffer.allocate(json.length + 8);
+        buffer.put(new byte[]{'[', 1, 2, 3});
+        final ByteBuffer slice = buffer.slice();
+        slice.put(new byte[]{' ', ' '}).put(json).flip().position(2);
+
+        final ThrowableProblem problem = unit.readValue(slice, ThrowableProblem.class);
+
+        assertThat(problem.getParameters()).containsEntry("product", "B00027Y5QG");
+        assertThat(slice.position()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReadDirectBuffer() throws IOException {
+        final byte[] json = read("default.json");
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(json.length).put(json).flip();
+
+        assertThat(unit.readValue(buffer).getParameters()).containsEntry("product", "B00027Y5QG");
+        assertThat(buffer.remaining()).isEqualTo(json.length);
+    }
+
+    @Test
+    void shouldReadOtherTypes() throws IOException {
+        final DefaultProblem problem = unit.readValue(read("default.json"), DefaultProblem.class);
+
+        assertThat(problem.getParameters()).containsEntry("product", "B00027Y5QG");
+    }
+
+    @Test
+    void shouldWriteLikeMapper() {
+        final List<Problem> problems = List.of(
+                new InsufficientFundsProblem(10, -20),
+                Problem.builder()
+                        .withType(URI.create("https://example.org/out-of-stock"))
+                        .withTitle("Out of Stock")
+                        .withStatus(BAD_REQUEST)
+                        .withCause(new InsufficientFundsProblem(10, -20))
+                        .with("product", "B00027Y5QG")
+                        .build(),
+                new IOProblem(URI.create("https://example.org/io"), "I/O", BAD_REQUEST, null, null));
+
+        assertThat(problems).allSatisfy(problem -> {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            unit.writeValue(output, problem);
+
+            assertThat(unit.writeValueAsBytes(problem)).isEqualTo(mapper.writeValueAsBytes(problem));
+            assertThat(output.toByteArray()).isEqualTo(mapper.writeValueAsBytes(problem));
+        });
+    }
+
+    @Test
+    void shouldRequireModule() {
+        assertThatThrownBy(() -> new ProblemCodec(JsonMapper.builder().build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] read(final String name) throws IOException {
+        try (final InputStream stream = getResource(name).openStream()) {
+            return stream.readAllBytes();
+        }
+    }
+
+    private static URL getResource(final String name) {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return Objects.requireNonNull(loader.getResource(name), () -> "resource " + name + " not found.");
+    }
+
+}
@@ -0,0 +1,149 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.zalando.problem.Status.BAD_REQUEST;
+
+final class ProblemEventTest {
+
+    private static final String SERIALIZATION = "io.github.a5423.problem.ProblemSerialization";
+    private static final String DESERIALIZATION = "io.github.a5423.problem.ProblemDeserialization";
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new ProblemModule())
+            .build();
+
+    private final ThrowableProblem problem = Problem.builder()
+            .withType(URI.create("https://example.org/preauthorization-failed"))
+            .withTitle("Preauthorization Failed")
+            .withStatus(BAD_REQUEST)
+            .with("amount", 42)
+            .withCause(Problem.builder()
+                    .withType(URI.create("https://example.org/expired-credit-card"))
+                    .withTitle("Expired Credit Card")
+                    .withStatus(BAD_REQUEST)
+                    .build())
+            .build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRecordSerialization() throws IOException {
+        final byte[] json;
+
+        try (final Recording recording = new Recording()) {
+            recording.enable(SERIALIZATION).withThreshold(Duration.ZERO);
+            recording.start();
+            json = mapper.writeValueAsBytes(problem);
+            recording.stop();
+            recording.dump(directory.resolve("serialization.jfr"));
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(directory.resolve("serialization.jfr"));
+
+        assertThat(events)
+                .filteredOn(event -> event.getInt("causeDepth") == 1)
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getEventType().getName()).isEqualTo(SERIALIZATION);
+                    assertThat(event.getInt("status")).isEqualTo(400);
+                    assertThat(event.getString("type")).isEqualTo("https://example.org/preauthorization-failed");
+                    assertThat(event.getInt("parameters")).isEqualTo(1);
+                    assertThat(event.getBoolean("stackTraces")).isFalse();
+                    assertThat(event.getLong("size")).isEqualTo(json.length);
+                });
+
+        assertThat(events)
+                .extracting(event -> event.getString("type"))
+                .containsExactlyInAnyOrder(
+                        "https://example.org/preauthorization-failed",
+                        "https://example.org/expired-credit-card");
+    }
+
+    @Test
+    void shouldBeDisabledByDefault() throws IOException, ParseException {
+        try (final Recording recording = new Recording(Configuration.getConfiguration("default"))) {
+            recording.start();
+            mapper.readValue(mapper.writeValueAsBytes(problem), Problem.class);
+            recording.stop();
+            recording.dump(directory.resolve("default.jfr"));
+        }
+
+        assertThat(RecordingFile.readAllEvents(directory.resolve("default.jfr")))
+                .extracting(event -> event.getEventType().getName())
+                .doesNotContain(SERIALIZATION, DESERIALIZATION);
+    }
+
+    @Test
+    void shouldRecordSizeOfProblemsLargerThanBuffer() throws IOException {
+        final ThrowableProblem problem = Problem.builder()
+                .withTitle("Too Large")
+                .with("payload", "x".repeat(50_000))
+                .build();
+        final byte[] json;
+
+        try (final Recording recording = new Recording()) {
+            recording.enable(SERIALIZATION).withThreshold(Duration.ZERO);
+            recording.start();
+            json = mapper.writeValueAsBytes(problem);
+            mapper.writeValue(new BufferedOutputStream(OutputStream.nullOutputStream()), problem);
+            recording.stop();
+            recording.dump(directory.resolve("large.jfr"));
+        }
+
+        assertThat(RecordingFile.readAllEvents(directory.resolve("large.jfr")))
+                .extracting(event -> event.getLong("size"))
+                .containsExactly((long) json.length, ProblemEvent.UNKNOWN_SIZE);
+    }
+
+    @Test
+    void shouldRecordDeserialization() throws IOException {
+        final byte[] json = mapper.writeValueAsBytes(problem);
+
+        try (final Recording recording = new Recording()) {
+            recording.enable(DESERIALIZATION).withThreshold(Duration.ZERO);
+            recording.start();
+            mapper.readValue(json, Problem.class);
+            recording.stop();
+            recording.dump(directory.resolve("deserialization.jfr"));
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(directory.resolve("deserialization.jfr"));
+
+        assertThat(events).hasSize(2);
+        assertThat(events)
+                .filteredOn(event -> event.getInt("causeDepth") == 1)
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getInt("status")).isEqualTo(400);
+                    assertThat(event.getString("type")).isEqualTo("https://example.org/preauthorization-failed");
+                    assertThat(event.getInt("parameters")).isEqualTo(1);
+                    assertThat(event.getLong("size")).isEqualTo(json.length);
+                });
+    }
+
+}
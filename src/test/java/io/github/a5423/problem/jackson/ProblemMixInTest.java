@@ -16,7 +16,11 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.net.URI;
 import java.net.URL;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -61,6 +65,32 @@ final class ProblemMixInTest {
                 .containsEntry("product", "B00027Y5QG");
     }
 
+    @Test
+    void shouldSerializeLazyParameters() throws JacksonException {
+        final AtomicInteger invocations = new AtomicInteger();
+
+        final Problem problem = Problem.builder()
+                .withTitle("Invalid Fields")
+                .with("violations", (Supplier<Stream<String>>) () -> {
+                    invocations.incrementAndGet();
+                    return Stream.of("name", "email");
+                })
+                .with("fields", List.of("name", "email").iterator())
+                .with("missing", (Supplier<?>) () -> null)
+                .build();
+
+        assertThat(invocations).hasValue(0);
+
+        final String json = mapper.writeValueAsString(problem);
+
+        assertThat(invocations).hasValue(1);
+        assertThatJson(json)
+                .isObject()
+                .containsEntry("violations", List.of("name", "email"))
+                .containsEntry("fields", List.of("name", "email"))
+                .containsEntry("missing", null);
+    }
+
     @Test
     void shouldSerializeProblemCause() throws JacksonException {
         final Problem problem = Problem.builder()
@@ -0,0 +1,157 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.problem.DefaultProblem;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.type;
+import static org.zalando.problem.Status.BAD_REQUEST;
+
+final class ProblemNodeConverterTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .registerSubtypes(InsufficientFundsProblem.class)
+            .registerSubtypes(OutOfStockException.class)
+            .addModule(new ProblemModule()
+                    .withParameterTypes(URI.create("https://example.org/out-of-credit"),
+                            Map.of("balance", BigDecimal.class)))
+            .build();
+
+    private final ProblemNodeConverter unit = new ProblemNodeConverter(mapper);
+
+    private final ThrowableProblem problem = Problem.builder()
+            .withType(URI.create("https://example.org/preauthorization-failed"))
+            .withTitle("Preauthorization Failed")
+            .withStatus(BAD_REQUEST)
+            .withDetail("")
+            .withInstance(URI.create("/payments/123"))
+            .with("amount", 42)
+            .with("currency", "EUR")
+            .with("accepted", false)
+            .with("methods", List.of("card", "invoice"))
+            .with("nothing", null)
+            .withCause(Problem.builder()
+                    .withType(URI.create("https://example.org/expired-credit-card"))
+                    .withTitle("Expired Credit Card")
+                    .withStatus(BAD_REQUEST)
+                    .with("since", "2015-09-16T00:00:00Z")
+                    .build())
+            .build();
+
+    @Test
+    void shouldConvertDefaultProblemToNode() {
+        assertThat(unit.toNode(problem))
+                .isEqualTo(mapper.valueToTree(problem));
+    }
+
+    @Test
+    void shouldConvertDefaultProblemWithStackTraceToNode() {
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new ProblemModule().withStackTraces())
+                .build();
+
+        assertThat(new ProblemNodeConverter(mapper).toNode(problem))
+                .isEqualTo(mapper.valueToTree(problem));
+    }
+
+    @Test
+    void shouldConvertSpecificProblemToNode() {
+        final InsufficientFundsProblem problem = new InsufficientFundsProblem(10, -20);
+
+        assertThat(unit.toNode(problem))
+                .isEqualTo(mapper.valueToTree(problem));
+    }
+
+    @Test
+    void shouldConvertNodeToDefaultProblem() {
+        final JsonNode node = unit.toNode(problem);
+        final Problem expected = mapper.treeToValue(node, Problem.class);
+
+        assertThat(unit.fromNode(node))
+                .isInstanceOf(DefaultProblem.class)
+                .asInstanceOf(type(DefaultProblem.class))
+                .satisfies(p -> {
+                    assertThat(p.getType()).isEqualTo(expected.getType());
+                    assertThat(p.getTitle()).isEqualTo(expected.getTitle());
+                    assertThat(p.getStatus()).isEqualTo(expected.getStatus());
+                    assertThat(p.getDetail()).isEqualTo(expected.getDetail());
+                    assertThat(p.getInstance()).isEqualTo(expected.getInstance());
+                    assertThat(p.getParameters()).isEqualTo(expected.getParameters());
+                    assertThat(p.getCause()).isInstanceOf(DefaultProblem.class);
+                    assertThat(p.getCause().getParameters()).containsEntry("since", "2015-09-16T00:00:00Z");
+                });
+    }
+
+    @Test
+    void shouldConvertNodeWithParameterTypes() {
+        final JsonNode node = mapper.readTree("{" +
+                "\"type\":\"https://example.org/out-of-credit\"," +
+                "\"balance\":30.5}");
+
+        assertThat(unit.fromNode(node).getParameters())
+                .containsEntry("balance", new BigDecimal("30.5"));
+    }
+
+    @Test
+    void shouldConvertNodeToSpecificProblem() throws IOException {
+        final JsonNode node = mapper.readTree(getResource("insufficient-funds.json").openStream());
+
+        assertThat(unit.fromNode(node, ThrowableProblem.class))
+                .isInstanceOf(InsufficientFundsProblem.class)
+                .asInstanceOf(type(InsufficientFundsProblem.class))
+                .satisfies(p -> {
+                    assertThat(p.getBalance()).isEqualTo(10);
+                    assertThat(p.getDebit()).isEqualTo(-20);
+                });
+    }
+
+    @Test
+    void shouldConvertNodeToUnknownStatus() throws IOException {
+        final JsonNode node = mapper.readTree(getResource("unknown.json").openStream());
+
+        assertThat(unit.fromNode(node).getStatus())
+                .satisfies(status -> {
+                    assertThat(status.getStatusCode()).isEqualTo(666);
+                    assertThat(status.getReasonPhrase()).isEqualTo("Unknown");
+                });
+    }
+
+    @Test
+    void shouldConvertEmptyNode() {
+        final Problem problem = unit.fromNode(mapper.createObjectNode());
+
+        assertThat(problem.getType()).isEqualTo(Problem.DEFAULT_TYPE);
+        assertThat(problem.getTitle()).isNull();
+        assertThat(problem.getParameters()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectMapperWithoutModule() {
+        assertThatThrownBy(() -> new ProblemNodeConverter(JsonMapper.builder().build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static URL getResource(final String name) {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return Objects.requireNonNull(loader.getResource(name), () -> "resource " + name + " not found.");
+    }
+
+}
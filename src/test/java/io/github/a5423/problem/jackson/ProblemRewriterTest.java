@@ -0,0 +1,188 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.problem.Problem;
+import org.zalando.problem.Status;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ProblemRewriterTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new ProblemModule())
+            .build();
+
+    private final ProblemRewriter unit = new ProblemRewriter(mapper);
+
+    @Test
+    void shouldReplaceInstanceInPlace() {
+        final String json = rewrite(unit.withInstance(URI.create("/public/123")),
+                "{\"type\":\"https://example.org/a\",\"instance\":\"/internal/123\",\"detail\":\"d\"}");
+
+        assertThat(json)
+                .isEqualTo("{\"type\":\"https://example.org/a\",\"instance\":\"/public/123\",\"detail\":\"d\"}");
+    }
+
+    @Test
+    void shouldAppendMissingMembers() {
+        final String json = rewrite(unit
+                        .withInstance(URI.create("/public/123"))
+                        .withMember("traceId", "abc"),
+                "{\"title\":\"Bad\"}");
+
+        assertThat(json)
+                .isEqualTo("{\"title\":\"Bad\",\"instance\":\"/public/123\",\"traceId\":\"abc\"}");
+    }
+
+    @Test
+    void shouldRemoveMembers() {
+        final String json = rewrite(unit.withoutMember("stacktrace"),
+                "{\"title\":\"Bad\",\"stacktrace\":[\"a.B.c(B.java:1)\"],\"status\":400}");
+
+        assertThat(json)
+                .isEqualTo("{\"title\":\"Bad\",\"status\":400}");
+    }
+
+    @Test
+    void shouldMapTypes() {
+        final String json = rewrite(unit
+                        .withType(URI.create("https://upstream.example.org/a"), URI.create("https://example.org/a")),
+                "{\"type\":\"https://upstream.example.org/a\"}");
+
+        assertThat(json)
+                .isEqualTo("{\"type\":\"https://example.org/a\"}");
+    }
+
+    @Test
+    void shouldMapDefaultType() {
+        final String json = rewrite(unit
+                        .withType(URI.create("about:blank"), URI.create("https://example.org/unknown")),
+                "{\"title\":\"Bad\"}");
+
+        assertThat(json)
+                .isEqualTo("{\"title\":\"Bad\",\"type\":\"https://example.org/unknown\"}");
+    }
+
+    @Test
+    void shouldRewriteCausesAndLeaveNumbersUntouched() {
+        final String json = rewrite(unit
+                        .withInstance(URI.create("/public/123"))
+                        .withoutMember("stacktrace")
+                        .withType(URI.create("https://upstream.example.org/a"), URI.create("https://example.org/a")),
+                "{\"amount\":1.10,\"cause\":{\"type\":\"https://upstream.example.org/a\"," +
+                        "\"instance\":\"/internal/456\",\"stacktrace\":[],\"amount\":2.20}}");
+
+        assertThat(json)
+                .isEqualTo("{\"amount\":1.10,\"cause\":{\"type\":\"https://example.org/a\"," +
+                        "\"instance\":\"/internal/456\",\"amount\":2.20},\"instance\":\"/public/123\"}");
+    }
+
+    @Test
+    void shouldRemoveStackTracesAndMapTypesOfAllCauses() {
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new ProblemModule().withStackTraces())
+                .build();
+
+        final ThrowableProblem problem = Problem.builder()
+                .withType(URI.create("https://upstream.example.org/a"))
+                .withTitle("Bad Gateway")
+                .withStatus(Status.BAD_GATEWAY)
+                .withCause(Problem.builder()
+                        .withType(URI.create("https://upstream.example.org/b"))
+                        .withStatus(Status.SERVICE_UNAVAILABLE)
+                        .withCause(Problem.builder()
+                                .withTitle("Connection refused")
+                                .build())
+                        .build())
+                .build();
+
+        final byte[] json = new ProblemRewriter(mapper)
+                .withoutMember("stacktrace")
+                .withType(URI.create("https://upstream.example.org/a"), URI.create("https://example.org/a"))
+                .withType(URI.create("https://upstream.example.org/b"), URI.create("https://example.org/b"))
+                .withType(Problem.DEFAULT_TYPE, URI.create("https://example.org/unknown"))
+                .rewrite(mapper.writeValueAsBytes(problem));
+
+        final JsonNode tree = mapper.readTree(json);
+
+        assertThat(tree.findValues("stacktrace")).isEmpty();
+        assertThat(tree.get("type").asString()).isEqualTo("https://example.org/a");
+        assertThat(tree.at("/cause/type").asString()).isEqualTo("https://example.org/b");
+        assertThat(tree.at("/cause/cause/type").asString()).isEqualTo("https://example.org/unknown");
+        assertThat(tree.at("/cause/cause/title").asString()).isEqualTo("Connection refused");
+    }
+
+    @Test
+    void shouldRewriteStreams() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (final InputStream input = getResource("cause.json").openStream()) {
+            unit.withMember("traceId", "abc").rewrite(input, output);
+        }
+
+        final ObjectNode expected = (ObjectNode) mapper.readTree(getResource("cause.json").openStream());
+        expected.put("traceId", "abc");
+
+        assertThat(mapper.readTree(output.toByteArray()))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void shouldLeaveStreamsOpen() {
+        final AtomicBoolean inputClosed = new AtomicBoolean();
+        final AtomicBoolean outputClosed = new AtomicBoolean();
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        final byte[] json = "{\"title\":\"Out of Stock\"}".getBytes(StandardCharsets.UTF_8);
+        final InputStream input = new ByteArrayInputStream(json) {
+            @Override
+            public void close() {
+                inputClosed.set(true);
+            }
+        };
+        final OutputStream output = new FilterOutputStream(buffer) {
+            @Override
+            public void close() {
+                outputClosed.set(true);
+            }
+        };
+
+        unit.withInstance(URI.create("/public/123")).rewrite(input, output);
+
+        assertThat(inputClosed).isFalse();
+        assertThat(outputClosed).isFalse();
+        assertThat(buffer.toString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"title\":\"Out of Stock\",\"instance\":\"/public/123\"}");
+    }
+
+    private static String rewrite(final ProblemRewriter rewriter, final String json) {
+        return new String(rewriter.rewrite(json.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+
+    private static URL getResource(final String name) {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return Objects.requireNonNull(loader.getResource(name), () -> "resource " + name + " not found.");
+    }
+
+}
@@ -0,0 +1,48 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.zalando.problem.AbstractThrowableProblem;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.zalando.problem.Status.TOO_MANY_REQUESTS;
+
+public final class QuotaExceededProblem extends AbstractThrowableProblem implements LazyDetail {
+
+    private static final URI TYPE = URI.create("https://example.org/quota-exceeded");
+
+    private final String template;
+    private final Object[] arguments;
+    private final AtomicInteger formatted = new AtomicInteger();
+
+    QuotaExceededProblem(final String template, final Object... arguments) {
+        super(TYPE, "Quota Exceeded", TOO_MANY_REQUESTS);
+        this.template = template;
+        this.arguments = arguments;
+    }
+
+    @Override
+    public String getDetail() {
+        formatted.incrementAndGet();
+        return template == null ? "Quota exceeded" : LazyDetail.format(template, arguments);
+    }
+
+    @Override
+    public String getDetailTemplate() {
+        return template;
+    }
+
+    @Override
+    public Object[] getDetailArguments() {
+        return arguments;
+    }
+
+    int getFormatted() {
+        return formatted.get();
+    }
+
+}
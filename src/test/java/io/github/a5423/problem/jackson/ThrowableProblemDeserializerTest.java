@@ -0,0 +1,129 @@
+/**
+ * MIT License
+ * Copyright (c) 2025 a5423
+ */
+package io.github.a5423.problem.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.problem.DefaultProblem;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ThrowableProblem;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.type;
+import static org.zalando.problem.Status.BAD_REQUEST;
+import static org.zalando.problem.Status.FORBIDDEN;
+
+final class ThrowableProblemDeserializerTest {
+
+    private static final URI OUT_OF_CREDIT = URI.create("https://example.org/out-of-credit");
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .registerSubtypes(InsufficientFundsProblem.class)
+            .addModule(new ProblemModule()
+                    .withParameterTypes(OUT_OF_CREDIT, Map.of(
+                            "balance", BigDecimal.class,
+                            "accounts", new TypeReference<List<URI>>() {
+                            }.getType())))
+            .build();
+
+    @Test
+    void shouldBindRegisteredParameterTypes() throws IOException {
+        final Problem problem = mapper.readValue(getResource("out-of-credit.json").openStream(), Problem.class);
+
+        assertThat(problem)
+                .isInstanceOf(DefaultProblem.class)
+                .satisfies(p -> {
+                    assertThat(p.getType()).isEqualTo(OUT_OF_CREDIT);
+                    assertThat(p.getTitle()).isEqualTo("You do not have enough credit.");
+                    assertThat(p.getStatus()).isEqualTo(FORBIDDEN);
+                    assertThat(p.getDetail()).isEqualTo("Your current balance is 30, but that costs 50.");
+                    assertThat(p.getInstance()).hasToString("/account/12345/msgs/abc");
+                    assertThat(p.getParameters())
+                            .containsExactly(
+                                    Map.entry("balance", new BigDecimal("30.10")),
+                                    Map.entry("accounts", List.of(
+                                            URI.create("/account/12345"),
+                                            URI.create("/account/67890"))),
+                                    Map.entry("reference", "abc"));
+                });
+    }
+
+    @Test
+    void shouldBindRegisteredParameterTypesPrecedingType() {
+        final Problem problem = mapper.readValue("{" +
+                "\"balance\":30.10," +
+                "\"accounts\":[\"/account/12345\"]," +
+                "\"type\":\"https://example.org/out-of-credit\"}", Problem.class);
+
+        assertThat(problem.getParameters())
+                .containsEntry("balance", new BigDecimal("30.10"))
+                .containsEntry("accounts", List.of(URI.create("/account/12345")));
+    }
+
+    @Test
+    void shouldKeepUntypedParametersOfOtherTypes() throws IOException {
+        final Problem problem = mapper.readValue(getResource("default.json").openStream(), Problem.class);
+
+        assertThat(problem.getParameters())
+                .containsExactly(Map.entry("product", "B00027Y5QG"));
+    }
+
+    @Test
+    void shouldKeepUntypedParametersWithSameNameOfOtherTypes() {
+        final Problem problem = mapper.readValue("{" +
+                "\"type\":\"https://example.org/other\"," +
+                "\"balance\":30.10}", Problem.class);
+
+        assertThat(problem.getParameters())
+                .containsEntry("balance", 30.10);
+    }
+
+    @Test
+    void shouldDeserializeCause() throws IOException {
+        final ThrowableProblem problem = mapper.readValue(getResource("cause.json").openStream(),
+                ThrowableProblem.class);
+
+        assertThat(problem.getCause())
+                .isInstanceOf(DefaultProblem.class)
+                .asInstanceOf(type(DefaultProblem.class))
+                .satisfies(cause -> {
+                    assertThat(cause.getStatus()).isEqualTo(BAD_REQUEST);
+                    assertThat(cause.getParameters()).containsEntry("since", "2015-09-16T00:00:00Z");
+                });
+    }
+
+    @Test
+    void shouldDeserializeEmpty() throws IOException {
+        final Problem problem = mapper.readValue(getResource("empty.json").openStream(), Problem.class);
+
+        assertThat(problem.getType()).hasToString("about:blank");
+        assertThat(problem.getTitle()).isNull();
+        assertThat(problem.getStatus()).isNull();
+        assertThat(problem.getParameters()).isEmpty();
+    }
+
+    @Test
+    void shouldStillDeserializeSpecificProblem() throws IOException {
+        final Problem problem = mapper.readValue(getResource("insufficient-funds.json").openStream(), Problem.class);
+
+        assertThat(problem).isInstanceOf(InsufficientFundsProblem.class);
+    }
+
+    private static URL getResource(final String name) {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return Objects.requireNonNull(loader.getResource(name), () -> "resource " + name + " not found.");
+    }
+
+}